@@ -0,0 +1,69 @@
+package com.genios.bowling.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Kinds of games the benchmarks are run with. Every game is played by the rules of {@link ScoreCard}, a roll is an
+ * array of the frame number, the roll number and the pins.
+ */
+public enum GameMix {
+    PERFECT {
+        @Override
+        int nextPins(int standing, Random random) {
+            return ScoreCard.MAX_PINS;
+        }
+    },
+    SPARES {
+        @Override
+        int nextPins(int standing, Random random) {
+            return standing == ScoreCard.MAX_PINS ? 5 : standing;
+        }
+    },
+    GUTTER {
+        @Override
+        int nextPins(int standing, Random random) {
+            return 0;
+        }
+    },
+    RANDOM {
+        @Override
+        int nextPins(int standing, Random random) {
+            return random.nextInt(standing + 1);
+        }
+    };
+
+    abstract int nextPins(int standing, Random random);
+
+    /**
+     * Plays a whole game.
+     *
+     * @param random {@link Random} used by the random mix
+     * @return rolls of the game in the order they were made
+     */
+    public int[][] play(Random random) {
+        ScoreCard scoreCard = new ScoreCard();
+        List<int[]> rolls = new ArrayList<>(21);
+        while (!scoreCard.isComplete() && !scoreCard.isGameOver()) {
+            int frameNumber = scoreCard.getNextFrameNumber();
+            int rollNumber = scoreCard.getNextRollNumber();
+            int pins = nextPins(scoreCard.getAvailablePins(frameNumber, 0), random);
+            scoreCard.roll(frameNumber, rollNumber, pins);
+            rolls.add(new int[]{frameNumber, rollNumber, pins});
+        }
+        return rolls.toArray(new int[0][]);
+    }
+
+    /**
+     * Plays the given number of games, the random mix gets the same games on every run.
+     */
+    public int[][][] play(int games) {
+        Random random = new Random(42);
+        int[][][] result = new int[games][][];
+        for (int i = 0; i < games; i++) {
+            result[i] = play(random);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.persistance.entity.Frame;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.entity.Roll;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a game into the score sent to the frontend, from the game kept in memory and from the loaded entities.
+ * Every operation is one game.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IntermediateScoreBenchmark {
+
+    private static final int GAMES = 1024;
+
+    @Param({"PERFECT", "SPARES", "GUTTER", "RANDOM"})
+    public GameMix mix;
+
+    private ActiveGame[] activeGames;
+    private Player[] players;
+
+    @Setup
+    public void setUp() {
+        int[][][] games = mix.play(GAMES);
+        activeGames = new ActiveGame[GAMES];
+        players = new Player[GAMES];
+        long id = 1;
+        for (int i = 0; i < GAMES; i++) {
+            long userId = i + 1L;
+            ActiveGame game = new ActiveGame(userId, "Player " + userId, null);
+            for (int[] roll : games[i]) {
+                game.roll(roll[0], roll[1], roll[2]);
+                game.setRollId(roll[0], roll[1], id++);
+            }
+            activeGames[i] = game;
+            players[i] = toPlayer(game);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void fromActiveGame(Blackhole blackhole) {
+        for (ActiveGame game : activeGames) {
+            blackhole.consume(game.toIntermediateScore());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void fromEntities(Blackhole blackhole) {
+        for (Player player : players) {
+            blackhole.consume(player.getIntermediateScore());
+        }
+    }
+
+    private static Player toPlayer(ActiveGame game) {
+        ScoreCard scoreCard = game.getScoreCard();
+        List<Frame> frames = new ArrayList<>(ScoreCard.FRAMES);
+        Player player = new Player(game.getUserId(), game.getName(), scoreCard.getTotalScore(), true, frames);
+        // entities come from the database in no particular order, the conversion sorts them
+        for (int frameNumber = ScoreCard.FRAMES; frameNumber > 0; frameNumber--) {
+            if (!scoreCard.hasFrame(frameNumber)) {
+                continue;
+            }
+            long frameId = game.getUserId() * ScoreCard.FRAMES + frameNumber;
+            Frame frame = new Frame(frameId, frameNumber, game.getUserId(), player);
+            frame.setFinalScore(scoreCard.isFinalized(frameNumber));
+            frame.setFrameScore(scoreCard.getFrameScore(frameNumber));
+            List<Roll> rolls = new ArrayList<>(ScoreCard.ROLLS_PER_FRAME);
+            for (int rollNumber = ScoreCard.ROLLS_PER_FRAME; rollNumber > 0; rollNumber--) {
+                if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                    rolls.add(new Roll(frameId * ScoreCard.ROLLS_PER_FRAME + rollNumber, frameId, rollNumber,
+                        scoreCard.getPins(frameNumber, rollNumber), game.getStatus(frameNumber, rollNumber),
+                        frame));
+                }
+            }
+            frame.setRolls(rolls);
+            frames.add(frame);
+        }
+        return player;
+    }
+}
@@ -0,0 +1,88 @@
+package com.genios.bowling.scoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of a roll: scoring it, calculating its status and finding the next frame and roll to play. Every
+ * operation is one game.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScoreCardBenchmark {
+
+    private static final int GAMES = 1024;
+
+    @Param({"PERFECT", "SPARES", "GUTTER", "RANDOM"})
+    public GameMix mix;
+
+    private int[][][] games;
+    private ScoreCard[] finishedCards;
+    private ScoreCard[] halfPlayedCards;
+
+    @Setup
+    public void setUp() {
+        games = mix.play(GAMES);
+        finishedCards = new ScoreCard[GAMES];
+        halfPlayedCards = new ScoreCard[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            finishedCards[i] = play(games[i], games[i].length);
+            halfPlayedCards[i] = play(games[i], games[i].length / 2);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public int scoreGame() {
+        int total = 0;
+        for (int[][] game : games) {
+            total += play(game, game.length).getTotalScore();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void calculateStatus(Blackhole blackhole) {
+        for (int i = 0; i < GAMES; i++) {
+            ScoreCard scoreCard = finishedCards[i];
+            for (int[] roll : games[i]) {
+                blackhole.consume(scoreCard.getStatus(roll[0], roll[1], roll[2]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public void getNextFrame(Blackhole blackhole) {
+        for (ScoreCard scoreCard : halfPlayedCards) {
+            blackhole.consume(scoreCard.isGameOver());
+            blackhole.consume(scoreCard.getNextFrameNumber());
+            blackhole.consume(scoreCard.getNextRollNumber());
+        }
+    }
+
+    private static ScoreCard play(int[][] game, int rolls) {
+        ScoreCard scoreCard = new ScoreCard();
+        for (int i = 0; i < rolls; i++) {
+            scoreCard.roll(game[i][0], game[i][1], game[i][2]);
+        }
+        return scoreCard;
+    }
+}
@@ -0,0 +1,119 @@
+package com.genios.bowling.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * One lane playing games one after another the way the frontend does: creates the player, asks for the next frame,
+ * saves the roll and repeats until there is no next frame. Spectators read the score of the game and the score board
+ * between the rolls. Pins and reads come from a random generator seeded by the lane, so every run sends the same
+ * requests.
+ */
+class LaneSimulator implements Callable<LatencyRecorder> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_PINS = 10;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int lane;
+    private final int games;
+    private final double spectatorReads;
+    private final double boardShare;
+    private final Random random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    LaneSimulator(HttpClient client, String baseUrl, int lane, int games, double spectatorReads, double boardShare,
+        long seed) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.lane = lane;
+        this.games = games;
+        this.spectatorReads = spectatorReads;
+        this.boardShare = boardShare;
+        this.random = new Random(seed * 31 + lane);
+    }
+
+    @Override
+    public LatencyRecorder call() throws IOException, InterruptedException {
+        for (int game = 0; game < games; game++) {
+            play(game);
+        }
+        return recorder;
+    }
+
+    private void play(int game) throws IOException, InterruptedException {
+        HttpResponse<String> created = send("create", post("/api/players",
+            "{\"name\":\"Lane " + lane + " game " + game + "\"}"));
+        if (created.statusCode() != 201) {
+            return;
+        }
+        long userId = OBJECT_MAPPER.readTree(created.body()).get("id").asLong();
+
+        int standing = MAX_PINS;
+        while (true) {
+            HttpResponse<String> next = send("next-frame", get("/api/players/" + userId + "/frames"));
+            if (next.statusCode() != 200) {
+                break;
+            }
+            JsonNode frame = OBJECT_MAPPER.readTree(next.body());
+            int frameNumber = frame.get("frameNumber").asInt();
+            int rollNumber = frame.get("rollNumber").asInt();
+            if (rollNumber == 1) {
+                standing = MAX_PINS;
+            }
+            int pins = random.nextInt(standing + 1);
+            standing = standing == pins ? MAX_PINS : standing - pins;
+            HttpResponse<String> saved = send("roll", post("/api/players/" + userId + "/frames",
+                "{\"frameNumber\":" + frameNumber + ",\"rollNumber\":" + rollNumber + ",\"pins\":" + pins + "}"));
+            if (saved.statusCode() != 200) {
+                break;
+            }
+            spectate(userId);
+        }
+    }
+
+    private void spectate(long userId) throws IOException, InterruptedException {
+        int reads = (int) spectatorReads;
+        if (random.nextDouble() < spectatorReads - reads) {
+            reads++;
+        }
+        for (int i = 0; i < reads; i++) {
+            if (random.nextDouble() < boardShare) {
+                send("board", get("/api/scores"));
+            } else {
+                send("score", get("/api/players/" + userId + "/scores"));
+            }
+        }
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        recorder.record(operation, System.nanoTime() - start);
+        boolean isExpected = response.statusCode() < 400
+            || operation.equals("next-frame") && response.statusCode() == 409;
+        if (!isExpected) {
+            recorder.recordError(operation);
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.genios.bowling.load;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies of the requests of one lane, merged into one report at the end of the run. Every lane has its own
+ * recorder, so nothing is shared while the load is generated.
+ */
+class LatencyRecorder {
+
+    private final Map<String, long[]> latencies = new TreeMap<>();
+    private final Map<String, Integer> counts = new TreeMap<>();
+    private final Map<String, Integer> errors = new TreeMap<>();
+
+    void record(String operation, long nanos) {
+        int count = counts.getOrDefault(operation, 0);
+        long[] values = latencies.computeIfAbsent(operation, key -> new long[1024]);
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+            latencies.put(operation, values);
+        }
+        values[count] = nanos;
+        counts.put(operation, count + 1);
+    }
+
+    void recordError(String operation) {
+        errors.merge(operation, 1, Integer::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.counts.forEach((operation, count) -> {
+            long[] values = other.latencies.get(operation);
+            for (int i = 0; i < count; i++) {
+                record(operation, values[i]);
+            }
+        });
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Integer::sum));
+    }
+
+    /**
+     * Prints the number of requests, throughput and latency percentiles of every operation.
+     *
+     * @param out {@link PrintStream} to print to
+     * @param elapsedNanos long duration of the run
+     */
+    void print(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("%-12s %8s %7s %10s %9s %9s %9s %9s%n", "operation", "requests", "errors", "req/s", "p50 ms",
+            "p90 ms", "p99 ms", "max ms");
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            String operation = entry.getKey();
+            int count = entry.getValue();
+            long[] values = Arrays.copyOf(latencies.get(operation), count);
+            Arrays.sort(values);
+            total += count;
+            out.printf("%-12s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", operation, count,
+                errors.getOrDefault(operation, 0), count / seconds, percentile(values, 0.50),
+                percentile(values, 0.90), percentile(values, 0.99), values[count - 1] / 1e6);
+        }
+        out.printf("%-12s %8d %7d %10.1f%n", "total", total, errors.values().stream().mapToInt(i -> i).sum(),
+            total / seconds);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,87 @@
+package com.genios.bowling.load;
+
+import com.genios.bowling.BowlingScoreBoardApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays games on every lane of a bowling centre at the same time and reports the throughput and the latency
+ * percentiles of every kind of request.
+ * <p>
+ * Options, all optional:
+ * <ul>
+ *     <li>{@code --lanes=60} lanes playing at the same time</li>
+ *     <li>{@code --games=5} games played on every lane</li>
+ *     <li>{@code --spectators=2} score reads per roll, fractions are allowed</li>
+ *     <li>{@code --board-share=0.2} part of the reads that fetch the score board instead of the game</li>
+ *     <li>{@code --seed=42} seed of the pins and the reads</li>
+ *     <li>{@code --target=http://localhost:8066} runs against an application that is already started</li>
+ * </ul>
+ * Without a target the application is started in this JVM with the {@code load} profile, an in-memory H2 database, all
+ * other options are passed to it, for example {@code --spring.datasource.url=...} for a local Postgres.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if (option.length == 2 && List.of("lanes", "games", "spectators", "board-share", "seed", "target")
+                .contains(option[0])) {
+                options.put(option[0], option[1]);
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+        int lanes = Integer.parseInt(options.getOrDefault("lanes", "60"));
+        int games = Integer.parseInt(options.getOrDefault("games", "5"));
+        double spectators = Double.parseDouble(options.getOrDefault("spectators", "2"));
+        double boardShare = Double.parseDouble(options.getOrDefault("board-share", "0.2"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        ConfigurableApplicationContext context = null;
+        String target = options.get("target");
+        if (target == null) {
+            applicationArgs.add(0, "--bowling.lines=" + lanes);
+            SpringApplication application = new SpringApplication(BowlingScoreBoardApplication.class);
+            application.setAdditionalProfiles("load");
+            context = application.run(applicationArgs.toArray(String[]::new));
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        System.out.printf("Playing %d games on each of %d lanes against %s, %.1f spectator reads per roll%n", games,
+            lanes, target, spectators);
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        ExecutorService executor = Executors.newFixedThreadPool(lanes);
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>(lanes);
+            long start = System.nanoTime();
+            for (int lane = 1; lane <= lanes; lane++) {
+                futures.add(executor.submit(
+                    new LaneSimulator(client, target, lane, games, spectators, boardShare, seed)));
+            }
+            LatencyRecorder report = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                report.merge(future.get());
+            }
+            report.print(System.out, System.nanoTime() - start);
+        } finally {
+            executor.shutdown();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.genios.bowling;
+
+import com.genios.bowling.service.exporter.ExportFormat;
+import com.genios.bowling.service.exporter.GameExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Exports all finished games to a CSV or NDJSON file without starting the web server, the format is taken from the
+ * extension of the file: {@code games.ndjson --spring.datasource.url=...}.
+ */
+@Slf4j
+public class BowlingExportApplication {
+
+    public static void main(String[] args) throws IOException {
+        List<String> files = Arrays.stream(args)
+            .filter(arg -> !arg.startsWith("--"))
+            .toList();
+        if (files.size() != 1) {
+            System.err.println("Usage: BowlingExportApplication <file.csv|file.ndjson> [--property=value]...");
+            System.exit(1);
+        }
+
+        String file = files.get(0);
+        ExportFormat format = ExportFormat.fromName(file);
+        SpringApplication application = new SpringApplication(BowlingScoreBoardApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(args);
+            OutputStream output = Files.newOutputStream(Path.of(file))) {
+            long games = context.getBean(GameExporter.class).exportGames(output, format);
+            log.info("{}: exported {} games", file, games);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.genios.bowling;
+
+import com.genios.bowling.record.response.ImportResult;
+import com.genios.bowling.service.importer.GameImporter;
+import com.genios.bowling.service.importer.ImportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Imports finished games from CSV or NDJSON files without starting the web server. Files are given as arguments,
+ * options of the application can be given as well: {@code games.csv more.ndjson --bowling.importer.threads=8}.
+ */
+@Slf4j
+public class BowlingImportApplication {
+
+    public static void main(String[] args) throws IOException {
+        List<String> files = Arrays.stream(args)
+            .filter(arg -> !arg.startsWith("--"))
+            .toList();
+        if (files.isEmpty()) {
+            System.err.println("Usage: BowlingImportApplication <file.csv|file.ndjson>... [--property=value]...");
+            System.exit(1);
+        }
+
+        SpringApplication application = new SpringApplication(BowlingScoreBoardApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            GameImporter gameImporter = context.getBean(GameImporter.class);
+            for (String file : files) {
+                try (InputStream input = Files.newInputStream(Path.of(file))) {
+                    ImportResult result = gameImporter.importGames(input, ImportFormat.fromFileName(file));
+                    log.info("{}: imported {} games, rejected {}", file, result.imported(), result.rejected());
+                    result.errors().forEach(error -> log.info("{}: {}", file, error));
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+import java.time.ZoneId;
 
 /**
  * Custom properties of the application.
@@ -15,4 +17,194 @@ public class BowlingConfiguration {
     @Getter
     @Setter
     private int lines;
+
+    /**
+     * How the games are saved, {@link Storage#ROWS} by default.
+     */
+    @Getter
+    @Setter
+    private Storage storage = Storage.ROWS;
+
+    @Getter
+    private final Events events = new Events();
+
+    @Getter
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    @Getter
+    private final ScoreStream scoreStream = new ScoreStream();
+
+    @Getter
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    @Getter
+    private final Commands commands = new Commands();
+
+    @Getter
+    private final Threads threads = new Threads();
+
+    @Getter
+    private final Importer importer = new Importer();
+
+    @Getter
+    private final Cache cache = new Cache();
+
+    /**
+     * Storage of the games.
+     */
+    public enum Storage {
+
+        /**
+         * A row per frame and a row per roll, needed for the write-behind mode.
+         */
+        ROWS,
+
+        /**
+         * All the rolls of a game packed into one row, frame scores are calculated when the game is read.
+         */
+        PACKED,
+
+        /**
+         * An append-only log of the rolls with snapshots of the games, scores are folded from the events when read.
+         */
+        EVENTS
+    }
+
+    /**
+     * Settings of the events storage.
+     */
+    @Getter
+    @Setter
+    public static class Events {
+
+        /**
+         * A snapshot of the game is added after every so many events, so a game is rebuilt from at most that many.
+         */
+        private int snapshotInterval = 5;
+    }
+
+    /**
+     * Settings of the write-behind mode, where rolls are journaled locally and saved to the database in batches.
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+
+        private boolean enabled;
+        private int batchSize = 500;
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private String journalDirectory = "journal";
+
+        /**
+         * Number of times a batch is tried before the entries that fail are moved to the dead-letter journal.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * How often the journal is forced to the disk. Changes accepted within the last interval can be lost if the
+         * machine fails, not if only the application does. When it is zero every append is forced before the request
+         * is answered.
+         */
+        private Duration syncInterval = Duration.ofMillis(10);
+    }
+
+    /**
+     * Settings of the score streams pushed to the browsers.
+     */
+    @Getter
+    @Setter
+    public static class ScoreStream {
+
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Events queued for one subscriber, a subscriber that falls further behind is dropped.
+         */
+        private int queueSize = 64;
+    }
+
+    /**
+     * Settings of the score board kept in memory.
+     */
+    @Getter
+    @Setter
+    public static class Leaderboard {
+
+        private int capacity = 1000;
+
+        /**
+         * Time zone the days of the score boards by day, week and month start in.
+         */
+        private ZoneId zone = ZoneId.systemDefault();
+    }
+
+    /**
+     * Settings of the queues the commands of the games are run in.
+     */
+    @Getter
+    @Setter
+    public static class Commands {
+
+        /**
+         * Number of the queues, the number of processors is used when it is not positive.
+         */
+        private int shards;
+    }
+
+    /**
+     * Settings of the threads the requests and the commands of the games are run on.
+     */
+    @Getter
+    @Setter
+    public static class Threads {
+
+        /**
+         * Runs everything on virtual threads, needs Java 21.
+         */
+        private boolean virtual;
+
+        /**
+         * Number of cores of the database server, sizes the connection pool in the virtual thread mode. The pool keeps
+         * its own settings when it is not positive.
+         */
+        private int databaseCores;
+    }
+
+    /**
+     * Settings of the import of finished games from files.
+     */
+    @Getter
+    @Setter
+    public static class Importer {
+
+        /**
+         * Number of games scored and saved together in one transaction.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Number of threads scoring and saving the batches, the number of processors is used when it is not positive.
+         */
+        private int threads;
+
+        /**
+         * Number of rejected lines described in the result, the others are only counted.
+         */
+        private int maxErrors = 100;
+    }
+
+    /**
+     * Settings of the second-level cache of the entities and the cache of the finished games.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        private boolean enabled;
+
+        /**
+         * Maximum number of entries of every cache region.
+         */
+        private int maxEntries = 10000;
+    }
 }
@@ -0,0 +1,82 @@
+package com.genios.bowling.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches the players and frames in the second-level cache of Hibernate and the scores of the finished games, switched
+ * on with {@code bowling.cache.enabled=true}. Both use the same Caffeine backed JCache regions, their hits and misses
+ * are published as metrics. Only the entities looked up by id are cached: players are read by id when a game is
+ * finished, frames when their scores are updated. Rolls and the collections are only ever read by queries, which do
+ * not use the cache. Both entities are only changed as managed entities, so the cache never goes stale.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    public static final String PLAYER_REGION = "player";
+    public static final String FRAME_REGION = "frame";
+    public static final String FINISHED_GAMES = "finished-games";
+
+    private static final List<String> REGIONS = List.of(PLAYER_REGION, FRAME_REGION, FINISHED_GAMES);
+
+    @Configuration
+    @ConditionalOnProperty(name = "bowling.cache.enabled", havingValue = "true")
+    @EnableCaching
+    @Slf4j
+    static class Enabled {
+
+        /**
+         * Creates the regions with an own cache manager, so several application contexts never share them.
+         */
+        @Bean(destroyMethod = "close")
+        public CacheManager jCacheManager(BowlingConfiguration configuration) {
+            int maxEntries = configuration.getCache().getMaxEntries();
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("bowling-" + UUID.randomUUID()), getClass().getClassLoader());
+            for (String region : REGIONS) {
+                CaffeineConfiguration<Object, Object> regionConfiguration = new CaffeineConfiguration<>();
+                regionConfiguration.setMaximumSize(OptionalLong.of(maxEntries));
+                regionConfiguration.setStoreByValue(false);
+                regionConfiguration.setStatisticsEnabled(true);
+                cacheManager.createCache(region, regionConfiguration);
+            }
+            log.info("Caching is on, up to {} entries per region", maxEntries);
+            return cacheManager;
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager jCacheManager) {
+            return properties -> {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, jCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "bowling.cache.enabled", havingValue = "false", matchIfMissing = true)
+    static class Disabled {
+
+        @Bean
+        public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+            return properties -> properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.genios.bowling.configuration;
+
+/**
+ * Names of the Spring profiles the beans of the application are switched by.
+ */
+public final class Profiles {
+
+    /**
+     * Serves the scoring API with WebFlux and R2DBC instead of the servlet stack. The reactive sources are only built
+     * with the {@code reactive} Maven profile.
+     */
+    public static final String REACTIVE = "reactive";
+
+    private Profiles() {
+    }
+}
@@ -0,0 +1,79 @@
+package com.genios.bowling.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Serves the requests on virtual threads, switched on with {@code bowling.threads.virtual=true} and available on Java
+ * 21 or newer. Tomcat starts a virtual thread for every request instead of taking one from its pool, and so does the
+ * executor of the asynchronous requests. The application does not start on an older Java if the mode is switched on.
+ * <p>
+ * Without a pool of request threads the connection pool is the only limit of the work sent to the database, so it is
+ * sized from {@code bowling.threads.database-cores}, see {@link #getPoolSize(int, int)}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bowling.threads.virtual", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfiguration {
+
+    private static final String POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Requests are served on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreadSupport.newPerTaskExecutor());
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreadSupport.newPerTaskExecutor());
+    }
+
+    /**
+     * Sets the size of the connection pool when the cores of the database are given and the size is not set
+     * explicitly. Read from the environment, the post processor is created before the configuration beans.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPoolSizer(Environment environment) {
+        int databaseCores = environment.getProperty("bowling.threads.database-cores", Integer.class, 0);
+        int shards = environment.getProperty("bowling.commands.shards", Integer.class, 0);
+        if (shards < 1) {
+            shards = Runtime.getRuntime().availableProcessors();
+        }
+        boolean isSized = databaseCores < 1 || environment.containsProperty(POOL_SIZE_PROPERTY);
+        int poolSize = getPoolSize(databaseCores, shards);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!isSized && bean instanceof HikariDataSource dataSource) {
+                    log.info("Connection pool sized to {} connections", poolSize);
+                    dataSource.setMaximumPoolSize(poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Returns the size of the connection pool: two connections per core of the database plus one, the usual start for
+     * a database on SSDs, so the cores stay busy while some connections wait for the disk or the network. It is never
+     * less than a connection per command shard plus one, as every shard thread holds a connection while it runs a
+     * command and the requests served outside the shards, like creating a player, need one more.
+     *
+     * @param databaseCores int number of cores of the database server
+     * @param shards int number of the command shards
+     * @return int maximum number of connections
+     */
+    static int getPoolSize(int databaseCores, int shards) {
+        return Math.max(databaseCores * 2 + 1, shards + 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.genios.bowling.configuration;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads when the application runs on Java 21 or newer. The project is still built for Java 17, so
+ * the virtual thread API is looked up at runtime.
+ */
+public final class VirtualThreadSupport {
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method PER_TASK_EXECUTOR = findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+    private VirtualThreadSupport() {
+    }
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Returns a factory of virtual threads named with the prefix and a counter.
+     *
+     * @param prefix String prefix of the thread names
+     * @return {@link ThreadFactory}
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        checkSupported();
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            Object named = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(named);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a factory of virtual threads", e);
+        }
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread for every task.
+     *
+     * @return {@link ExecutorService}
+     */
+    public static ExecutorService newPerTaskExecutor() {
+        checkSupported();
+        try {
+            return (ExecutorService) PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create an executor of virtual threads", e);
+        }
+    }
+
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer, running on Java "
+                + Runtime.version().feature());
+        }
+    }
+
+    private static Method findMethod(Class<?> owner, String name) {
+        try {
+            return owner.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.genios.bowling.controller;
+
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.record.response.BowlerGame;
+import com.genios.bowling.record.response.BowlerRecord;
+import com.genios.bowling.record.response.BowlerStatisticsRecord;
+import com.genios.bowling.service.statistics.BowlerService;
+import com.genios.bowling.service.statistics.StatisticsService;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * Bowlers, their games and statistics.
+ */
+@RestController
+@RequestMapping("/api/bowlers")
+@Profile("!" + Profiles.REACTIVE)
+@Validated
+@Slf4j
+public class BowlerController {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final BowlerService bowlerService;
+    private final StatisticsService statisticsService;
+
+    @Autowired
+    public BowlerController(BowlerService bowlerService, StatisticsService statisticsService) {
+        this.bowlerService = bowlerService;
+        this.statisticsService = statisticsService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BowlerRecord> getBowler(@RequestParam @NotBlank String handle) {
+        log.info("Received a request to get the bowler with the handle: {}", handle);
+        return ResponseEntity.status(HttpStatus.OK).body(bowlerService.getBowler(handle));
+    }
+
+    @GetMapping(value = "/{id}/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BowlerStatisticsRecord> getStatistics(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request to get the statistics of the bowler with id: {}", id);
+        return ResponseEntity.status(HttpStatus.OK).body(statisticsService.getStatistics(id));
+    }
+
+    @GetMapping(value = "/{id}/games", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BowlerGame>> getGames(@PathVariable @NotNull @Positive Long id,
+        @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+        log.info("Received a request to get the games of the bowler with id: {}, page: {}, size: {}", id, page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(bowlerService.getGames(id, page, size));
+    }
+}
@@ -1,90 +1,187 @@
 package com.genios.bowling.controller;
 
+import com.genios.bowling.configuration.Profiles;
 import com.genios.bowling.record.request.Player;
+import com.genios.bowling.record.request.PlayerRolls;
 import com.genios.bowling.record.request.Roll;
 import com.genios.bowling.record.response.GameOver;
 import com.genios.bowling.record.response.IntermediateScore;
 import com.genios.bowling.record.response.NextFrameRecord;
 import com.genios.bowling.record.response.PlayerCreated;
+import com.genios.bowling.record.response.PlayerRollsResult;
 import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.service.GameCommandExecutor;
 import com.genios.bowling.service.GameService;
 import com.genios.bowling.service.PlayerService;
+import com.genios.bowling.service.ScoreStreamService;
+import com.genios.bowling.service.ScoreVersions;
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api")
+@Profile("!" + Profiles.REACTIVE)
+@Validated
 @Slf4j
 public class BowlingController {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final CacheControl FINISHED_GAME_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final PlayerService playerService;
     private final GameService gameService;
+    private final ScoreStreamService scoreStreamService;
+    private final GameCommandExecutor commandExecutor;
+    private final ScoreVersions scoreVersions;
 
     @Autowired
-    public BowlingController(PlayerService playerService, GameService gameService) {
+    public BowlingController(PlayerService playerService, GameService gameService,
+        ScoreStreamService scoreStreamService, GameCommandExecutor commandExecutor, ScoreVersions scoreVersions) {
         this.playerService = playerService;
         this.gameService = gameService;
+        this.scoreStreamService = scoreStreamService;
+        this.commandExecutor = commandExecutor;
+        this.scoreVersions = scoreVersions;
     }
 
     @PostMapping(value = "/players", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
     public ResponseEntity<PlayerCreated> create(@RequestBody @Valid @NotNull Player player) {
         log.info("Received a request to create a player: {}", player.name());
-        Long userId = playerService.createPlayer(player.name());
-        PlayerCreated result = new PlayerCreated(userId);
+        Long userId = playerService.createPlayer(player.name(), player.handle());
+        PlayerCreated result = new PlayerCreated(userId, playerService.getLane(userId));
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
     @GetMapping(value = "/players/{id}/frames", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
-    public ResponseEntity<NextFrameRecord> getNextFrame(@PathVariable @NotBlank Long id) {
+    public ResponseEntity<NextFrameRecord> getNextFrame(@PathVariable @NotNull @Positive Long id) {
         log.info("Received a request to get the next frame for the player with id: {}", id);
-        NextFrameRecord nextFrame = gameService.getNextFrame(id);
+        NextFrameRecord nextFrame = gameService.getPublishedNextFrame(id);
         return ResponseEntity.status(HttpStatus.OK).body(nextFrame);
     }
 
     @PostMapping(value = "/players/{id}/frames", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
-    public ResponseEntity<?> saveRoll(@PathVariable @NotBlank Long id, @RequestBody @Valid @NotNull Roll roll) {
+    public ResponseEntity<?> saveRoll(@PathVariable @NotNull @Positive Long id,
+        @RequestBody @Valid @NotNull Roll roll) {
         log.info("Received a request save the roll for the player with id: {}", id);
         NextFrameRecord frameRecord = new NextFrameRecord(id, roll.frameNumber(), roll.rollNumber());
         int pins = roll.pins();
-        gameService.saveRollResult(frameRecord, pins);
+        commandExecutor.execute(id, () -> gameService.saveRollResult(frameRecord, pins));
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @PostMapping(value = "/players/{id}/frames:batch", produces = MediaType.APPLICATION_JSON_VALUE,
+        consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<IntermediateScore> saveRolls(@PathVariable @NotNull @Positive Long id,
+        @RequestBody @NotEmpty List<Roll> rolls) {
+        log.info("Received a request to save {} rolls for the player with id: {}", rolls.size(), id);
+        IntermediateScore score = commandExecutor.execute(id, () -> gameService.saveRollResults(id, rolls));
+        return ResponseEntity.status(HttpStatus.OK).body(score);
+    }
+
+    /**
+     * Saves the buffered rolls of several players. Rolls of every player are saved in their own transaction, so a
+     * player whose rolls are rejected does not stop the others, the reason is returned in the result of the player.
+     */
+    @PostMapping(value = "/frames:batch", produces = MediaType.APPLICATION_JSON_VALUE,
+        consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<List<PlayerRollsResult>> saveRolls(@RequestBody @NotEmpty List<PlayerRolls> playerRolls) {
+        log.info("Received a request to save the rolls of {} players", playerRolls.size());
+        List<PlayerRollsResult> results = new ArrayList<>(playerRolls.size());
+        for (PlayerRolls rolls : playerRolls) {
+            Long userId = rolls.userId();
+            if (userId == null) {
+                results.add(new PlayerRollsResult(null, null, "Id of the player is missing"));
+                continue;
+            }
+            try {
+                IntermediateScore score = commandExecutor.execute(userId,
+                    () -> gameService.saveRollResults(userId, rolls.rolls()));
+                results.add(new PlayerRollsResult(userId, score, null));
+            } catch (RuntimeException e) {
+                log.info("Rolls of the player with id {} were not saved: {}", userId, e.getMessage());
+                results.add(new PlayerRollsResult(userId, null, e.getMessage()));
+            }
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
     @GetMapping(value = "/players/{id}/game", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<GameOver> isGameOver(@PathVariable @NotBlank Long id) {
+    public ResponseEntity<GameOver> isGameOver(@PathVariable @NotNull @Positive Long id) {
         log.info("Received a request check if the game is over for the player with id: {}", id);
-        boolean isGameOver = gameService.isGameOver(id);
+        boolean isGameOver = gameService.isPublishedGameOver(id);
         return ResponseEntity.status(HttpStatus.OK).body(new GameOver(isGameOver));
     }
 
     @GetMapping(value = "/players/{id}/scores", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<IntermediateScore> getPlayerScore(@PathVariable @NotBlank Long id) {
+    public ResponseEntity<IntermediateScore> getPlayerScore(@PathVariable @NotNull @Positive Long id,
+        WebRequest request) {
         log.info("Received a request get the scores for the player with id: {}", id);
-        IntermediateScore playerScore = gameService.getIntermediateScore(id);
-        return ResponseEntity.status(HttpStatus.OK).body(playerScore);
+        String tag = scoreVersions.getGameTag(id, request.getHeader(HttpHeaders.IF_NONE_MATCH));
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        IntermediateScore playerScore = gameService.getPublishedScore(id);
+        return ResponseEntity.status(HttpStatus.OK)
+            .eTag(playerScore.isGameOver() ? scoreVersions.getFinishedGameTag(id) : tag)
+            .cacheControl(playerScore.isGameOver() ? FINISHED_GAME_CACHE : CacheControl.noCache())
+            .body(playerScore);
+    }
+
+    @GetMapping(value = "/players/{id}/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlayerScore(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request to stream the scores for the player with id: {}", id);
+        return scoreStreamService.subscribeToGame(id, () -> gameService.getPublishedScore(id));
     }
 
     @GetMapping(value = "/scores", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<PlayerScore>> getTopScores() {
-        log.info("Received a request get the top scores for all players");
-        List<PlayerScore> scores = playerService.getTopPlayerScores();
-        return ResponseEntity.status(HttpStatus.OK).body(scores);
+    public ResponseEntity<List<PlayerScore>> getTopScores(@RequestParam(defaultValue = "0") int page,
+        @RequestParam(required = false) Integer size, @RequestParam(defaultValue = "ALL_TIME") ScoreWindow window,
+        WebRequest request) {
+        log.info("Received a request get the top scores for all players, window: {}, page: {}, size: {}", window, page,
+            size);
+        String tag = scoreVersions.getBoardTag(window);
+        if (request.checkNotModified(tag)) {
+            return null;
+        }
+        List<PlayerScore> scores = window == ScoreWindow.ALL_TIME && size == null && page == 0
+            ? playerService.getTopPlayerScores()
+            : playerService.getTopPlayerScores(window, page, size == null ? DEFAULT_PAGE_SIZE : size);
+        return ResponseEntity.status(HttpStatus.OK).eTag(tag).cacheControl(CacheControl.noCache()).body(scores);
+    }
+
+    @GetMapping(value = "/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTopScores() {
+        log.info("Received a request to stream the top scores for all players");
+        return scoreStreamService.subscribeToScoreBoard(playerService::getTopPlayerScores);
     }
 }
@@ -1,11 +1,16 @@
 package com.genios.bowling.controller;
 
+import com.genios.bowling.exception.GameAlreadyFinishedException;
 import com.genios.bowling.exception.NoFreeLinesException;
+import com.genios.bowling.exception.bowler.BowlerNotFoundException;
 import com.genios.bowling.exception.frame.FrameNotFoundException;
 import com.genios.bowling.exception.player.PlayerNotFoundException;
 import com.genios.bowling.exception.roll.RollAlreadyExistsException;
 import com.genios.bowling.exception.roll.RollNotFoundException;
+import com.genios.bowling.exception.session.InvalidRotationException;
+import com.genios.bowling.exception.session.SessionNotFoundException;
 import com.genios.bowling.record.response.ErrorMessage;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +34,17 @@ public class ExceptionHandlingController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
     }
 
+    /**
+     * Converts validation exceptions of the service parameters into response entity.
+     *
+     * @param ex {@link ConstraintViolationException} validation exception
+     * @return ResponseEntity
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorMessage> handleConstraintViolationException(ConstraintViolationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
+    }
+
     @ExceptionHandler(NoFreeLinesException.class)
     public ResponseEntity<ErrorMessage> handleNoFreeLinesException(NoFreeLinesException ex) {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorMessage(ex.getMessage()));
@@ -39,6 +55,11 @@ public class ExceptionHandlingController {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorMessage(ex.getMessage()));
     }
 
+    @ExceptionHandler(GameAlreadyFinishedException.class)
+    public ResponseEntity<ErrorMessage> handleGameFinishedException(GameAlreadyFinishedException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorMessage(ex.getMessage()));
+    }
+
     @ExceptionHandler(FrameNotFoundException.class)
     public ResponseEntity<ErrorMessage> handleNoFrameException(FrameNotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorMessage(ex.getMessage()));
@@ -54,5 +75,20 @@ public class ExceptionHandlingController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
     }
 
+    @ExceptionHandler(SessionNotFoundException.class)
+    public ResponseEntity<ErrorMessage> handleNoSessionException(SessionNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidRotationException.class)
+    public ResponseEntity<ErrorMessage> handleInvalidRotationException(InvalidRotationException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
+    }
+
+    @ExceptionHandler(BowlerNotFoundException.class)
+    public ResponseEntity<ErrorMessage> handleNoBowlerException(BowlerNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorMessage(ex.getMessage()));
+    }
+
     //not all handlers are there, I did not make all of them
 }
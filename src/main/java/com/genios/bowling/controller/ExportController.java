@@ -0,0 +1,40 @@
+package com.genios.bowling.controller;
+
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.service.exporter.ExportFormat;
+import com.genios.bowling.service.exporter.GameExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exports all finished games. The response is written in chunks while the games are read from the database.
+ */
+@RestController
+@RequestMapping("/api")
+@Profile("!" + Profiles.REACTIVE)
+@Slf4j
+public class ExportController {
+
+    private final GameExporter gameExporter;
+
+    @Autowired
+    public ExportController(GameExporter gameExporter) {
+        this.gameExporter = gameExporter;
+    }
+
+    @GetMapping(value = "/exports/games")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Received a request to export the finished games as {}", format);
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        StreamingResponseBody body = output -> gameExporter.exportGames(output, exportFormat);
+        return ResponseEntity.status(HttpStatus.OK).contentType(exportFormat.getMediaType()).body(body);
+    }
+}
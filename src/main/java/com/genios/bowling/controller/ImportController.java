@@ -0,0 +1,44 @@
+package com.genios.bowling.controller;
+
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.record.response.ImportResult;
+import com.genios.bowling.service.importer.GameImporter;
+import com.genios.bowling.service.importer.ImportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.io.InputStream;
+
+/**
+ * Imports finished games from files uploaded as the body of the request, the body is read as a stream.
+ */
+@RestController
+@RequestMapping("/api")
+@Profile("!" + Profiles.REACTIVE)
+@Slf4j
+public class ImportController {
+
+    private final GameImporter gameImporter;
+
+    @Autowired
+    public ImportController(GameImporter gameImporter) {
+        this.gameImporter = gameImporter;
+    }
+
+    @PostMapping(value = "/imports", consumes = {"text/csv", "application/x-ndjson"},
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResult> importGames(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body) {
+        log.info("Received a request to import games of the type {}", contentType);
+        ImportResult result = gameImporter.importGames(body, ImportFormat.fromContentType(contentType));
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
@@ -0,0 +1,75 @@
+package com.genios.bowling.controller;
+
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.record.request.PlayerRolls;
+import com.genios.bowling.record.request.Team;
+import com.genios.bowling.record.response.SessionCreated;
+import com.genios.bowling.record.response.SessionScore;
+import com.genios.bowling.service.GameCommandExecutor;
+import com.genios.bowling.service.SessionService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * Sessions of teams sharing one lane. The commands of all the bowlers of a session run in the same queue.
+ */
+@RestController
+@RequestMapping("/api/sessions")
+@Profile("!" + Profiles.REACTIVE)
+@Validated
+@Slf4j
+public class SessionController {
+
+    private final SessionService sessionService;
+    private final GameCommandExecutor commandExecutor;
+
+    @Autowired
+    public SessionController(SessionService sessionService, GameCommandExecutor commandExecutor) {
+        this.sessionService = sessionService;
+        this.commandExecutor = commandExecutor;
+    }
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<SessionCreated> create(@RequestBody @Valid @NotNull Team team) {
+        log.info("Received a request to create a session for the team {} of {} bowlers", team.name(),
+            team.bowlers().size());
+        SessionCreated result = sessionService.createSession(team.name(), team.bowlers());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SessionScore> getSession(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request to get the session with id: {}", id);
+        SessionScore score = sessionService.getPublishedSession(id);
+        return ResponseEntity.status(HttpStatus.OK).body(score);
+    }
+
+    @PostMapping(value = "/{id}/rotations", produces = MediaType.APPLICATION_JSON_VALUE,
+        consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<SessionScore> saveRotation(@PathVariable @NotNull @Positive Long id,
+        @RequestBody @NotEmpty List<PlayerRolls> rotation) {
+        log.info("Received a request to save a rotation of {} bowlers for the session with id: {}", rotation.size(),
+            id);
+        SessionScore score = commandExecutor.executeForSession(id, () -> sessionService.saveRotation(id, rotation));
+        return ResponseEntity.status(HttpStatus.OK).body(score);
+    }
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.event;
+
+/**
+ * Published when the last frame of the game was finalized.
+ */
+public record GameFinishedEvent(Long userId, String name, int totalScore) {
+
+}
@@ -0,0 +1,10 @@
+package com.genios.bowling.event;
+
+import com.genios.bowling.record.response.ScoreDelta;
+
+/**
+ * Published when a roll was accepted, contains what changed in the game.
+ */
+public record RollSavedEvent(ScoreDelta delta) {
+
+}
@@ -0,0 +1,11 @@
+package com.genios.bowling.exception.bowler;
+
+/**
+ * Indicates that no bowler was found.
+ */
+public class BowlerNotFoundException extends RuntimeException {
+
+    public BowlerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.genios.bowling.exception.session;
+
+/**
+ * Indicates that the rolls of a rotation do not belong to the bowlers of the session.
+ */
+public class InvalidRotationException extends RuntimeException {
+
+    public InvalidRotationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.genios.bowling.exception.session;
+
+/**
+ * Indicates that no session was found.
+ */
+public class SessionNotFoundException extends RuntimeException {
+
+    public SessionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,89 @@
+package com.genios.bowling.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Timers and counters of the stages a roll goes through, published with percentile histograms so the slow requests
+ * can be traced to a stage.
+ * <ul>
+ *     <li>{@code bowling.game.stage}: time of every stage, tagged with the stage</li>
+ *     <li>{@code bowling.game.rolls}: saved and rejected rolls, rejected ones tagged with the reason</li>
+ *     <li>{@code bowling.commands.wait}: time a command waited in the queue of its game</li>
+ * </ul>
+ */
+@Component
+public class GameMetrics {
+
+    public static final String LOAD = "load";
+    public static final String CHECK = "check";
+    public static final String SCORE = "score";
+    public static final String WRITE = "write";
+    public static final String WRITE_FRAMES = "write-frames";
+    public static final String WRITE_ROLL = "write-roll";
+    public static final String FINISH = "finish";
+    public static final String PUBLISH = "publish";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Timer commandWait;
+    private final Counter savedRolls;
+
+    @Autowired
+    public GameMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.commandWait = Timer.builder("bowling.commands.wait")
+            .description("Time a command waited in the queue of its game")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.savedRolls = Counter.builder("bowling.game.rolls")
+            .tag("result", "saved")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Runs the stage and records its time.
+     *
+     * @param stage String name of the stage
+     * @param action the stage
+     * @return result of the stage
+     */
+    public <T> T time(String stage, Supplier<T> action) {
+        return getStageTimer(stage).record(action);
+    }
+
+    public void time(String stage, Runnable action) {
+        getStageTimer(stage).record(action);
+    }
+
+    public void recordCommandWait(long nanos) {
+        commandWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void rollSaved(int rolls) {
+        savedRolls.increment(rolls);
+    }
+
+    /**
+     * Counts a rejected roll, the reason is the simple name of the exception.
+     */
+    public void rollRejected(RuntimeException reason) {
+        meterRegistry.counter("bowling.game.rolls", "result", "rejected", "reason",
+            reason.getClass().getSimpleName()).increment();
+    }
+
+    private Timer getStageTimer(String stage) {
+        return stageTimers.computeIfAbsent(stage, key -> Timer.builder("bowling.game.stage")
+            .description("Time of a stage of saving a roll")
+            .tag("stage", key)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+}
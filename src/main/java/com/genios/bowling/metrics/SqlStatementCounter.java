@@ -0,0 +1,66 @@
+package com.genios.bowling.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements prepared by Hibernate, in total by their type as {@code bowling.sql.statements} and per
+ * thread, so the statements of a request can be counted. The statements are not changed.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> THREAD_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    @Autowired
+    public SqlStatementCounter(MeterRegistry meterRegistry) {
+        this.selects = meterRegistry.counter("bowling.sql.statements", "type", "select");
+        this.inserts = meterRegistry.counter("bowling.sql.statements", "type", "insert");
+        this.updates = meterRegistry.counter("bowling.sql.statements", "type", "update");
+        this.deletes = meterRegistry.counter("bowling.sql.statements", "type", "delete");
+        this.others = meterRegistry.counter("bowling.sql.statements", "type", "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        THREAD_COUNT.get()[0]++;
+        String start = sql.stripLeading();
+        start = start.substring(0, Math.min(6, start.length())).toLowerCase(Locale.ROOT);
+        switch (start) {
+            case "select" -> selects.increment();
+            case "insert" -> inserts.increment();
+            case "update" -> updates.increment();
+            case "delete" -> deletes.increment();
+            default -> others.increment();
+        }
+        return sql;
+    }
+
+    /**
+     * Returns the number of statements prepared on the current thread since it was reset.
+     */
+    public static long getThreadCount() {
+        return THREAD_COUNT.get()[0];
+    }
+
+    /**
+     * Adds the statements prepared for the current thread by another one.
+     */
+    public static void addToThreadCount(long statements) {
+        THREAD_COUNT.get()[0] += statements;
+    }
+
+    public static void resetThreadCount() {
+        THREAD_COUNT.get()[0] = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.genios.bowling.persistance.converter;
+
+import com.genios.bowling.record.Status;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the {@link Status} of a roll as its small numeric code instead of a string.
+ */
+@Converter
+public class StatusConverter implements AttributeConverter<Status, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Status status) {
+        return status == null ? Status.NONE.getCode() : status.getCode();
+    }
+
+    @Override
+    public Status convertToEntityAttribute(Short code) {
+        return code == null ? Status.NONE : Status.fromCode(code);
+    }
+}
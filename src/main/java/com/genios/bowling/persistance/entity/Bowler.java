@@ -0,0 +1,43 @@
+package com.genios.bowling.persistance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A person who bowls, every game of the bowler is a {@link Player} linked with {@link Player#getBowlerId()}. Bowlers
+ * are told apart by their handles, several bowlers may have the same name.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+public class Bowler {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Size(
+        min = 2,
+        max = 25)
+    @NotEmpty
+    private String name;
+
+    @Size(
+        min = 2,
+        max = 25)
+    @NotEmpty
+    @Column(unique = true, nullable = false)
+    private String handle;
+
+    public Bowler(String handle, String name) {
+        this.handle = handle;
+        this.name = name;
+    }
+}
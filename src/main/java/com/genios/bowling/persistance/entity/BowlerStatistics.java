@@ -0,0 +1,49 @@
+package com.genios.bowling.persistance.entity;
+
+import com.genios.bowling.scoring.ScoreCard;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running totals of all the finished games of a bowler, updated once per game, so the statistics are read with one
+ * row instead of all the frames and rolls. The row is created together with the bowler.
+ */
+@Entity
+@Table(name = "bowler_statistics")
+@Data
+@NoArgsConstructor
+public class BowlerStatistics {
+
+    @Id
+    @Column(name = "bowler_id")
+    private Long bowlerId;
+
+    private int games;
+
+    private long totalScore;
+
+    private int highGame;
+
+    private int frames;
+
+    private int strikes;
+
+    private int spares;
+
+    private int opens;
+
+    /**
+     * Number of rolls by the pins knocked off, from 0 to 10.
+     */
+    @Column(nullable = false, columnDefinition = "integer array")
+    private int[] pinCounts;
+
+    public BowlerStatistics(Long bowlerId) {
+        this.bowlerId = bowlerId;
+        this.pinCounts = new int[ScoreCard.MAX_PINS + 1];
+    }
+}
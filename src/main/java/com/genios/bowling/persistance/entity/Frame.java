@@ -1,7 +1,9 @@
 package com.genios.bowling.persistance.entity;
 
+import com.genios.bowling.configuration.CacheConfiguration;
 import com.genios.bowling.record.response.FrameScore;
 import com.genios.bowling.record.response.RollScore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Max;
@@ -18,10 +21,14 @@ import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.FRAME_REGION)
 @Table(name = "frame", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "frame_number"}))
 @Data
 @NoArgsConstructor
@@ -29,7 +36,8 @@ import java.util.List;
 public class Frame {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "frame_seq")
+    @SequenceGenerator(name = "frame_seq", sequenceName = "frame_seq", allocationSize = 50)
     private Long id;
 
     @Min(1)
@@ -47,11 +55,11 @@ public class Frame {
     @Max(300)
     private Integer frameScore;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", insertable = false, updatable = false)
     private Player player;
 
-    @OneToMany(mappedBy = "frame", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "frame", fetch = FetchType.LAZY)
     private List<Roll> rolls;
 
     public Frame(long id, int frameNumber, long userid, Player player) {
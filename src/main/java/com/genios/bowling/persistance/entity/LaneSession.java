@@ -0,0 +1,47 @@
+package com.genios.bowling.persistance.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A team bowling together on one lane, every bowler plays an own game as a {@link Player} of the session and they take
+ * turns in the order of {@link Player#getRotationOrder()}. The lane is freed when the last game of the team is
+ * finished.
+ */
+@Entity
+@Table(name = "lane_session")
+@Data
+@NoArgsConstructor
+public class LaneSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Size(
+        min = 2,
+        max = 25)
+    @NotEmpty
+    private String name;
+
+    @Min(1)
+    private Integer lane;
+
+    private boolean isFinished;
+
+    @Min(0)
+    private Integer totalScore;
+
+    public LaneSession(String name, Integer lane) {
+        this.name = name;
+        this.lane = lane;
+    }
+}
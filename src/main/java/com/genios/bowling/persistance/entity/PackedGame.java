@@ -0,0 +1,53 @@
+package com.genios.bowling.persistance.entity;
+
+import com.genios.bowling.scoring.ScoreCard;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Rolls of one game packed into a single row, used when {@code bowling.storage=packed}. Every frame has three slots
+ * holding the pins knocked off or -1, frame scores and statuses are not stored but calculated when the game is read.
+ * The id is the id of the player, a new game is inserted without looking it up first.
+ */
+@Entity
+@Table(name = "packed_game")
+@Data
+@NoArgsConstructor
+public class PackedGame implements Persistable<Long> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = ScoreCard.SLOTS)
+    private byte[] pins;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean isNew = true;
+
+    public PackedGame(Long userId, byte[] pins) {
+        this.userId = userId;
+        this.pins = pins;
+    }
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -1,7 +1,10 @@
 package com.genios.bowling.persistance.entity;
 
+import com.genios.bowling.configuration.CacheConfiguration;
 import com.genios.bowling.record.response.FrameScore;
 import com.genios.bowling.record.response.IntermediateScore;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -17,10 +20,15 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.PLAYER_REGION)
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
@@ -44,9 +52,33 @@ public class Player {
 
     private boolean isFinished;
 
-    @OneToMany(mappedBy = "player", fetch = FetchType.EAGER)
+    @Min(1)
+    private Integer lane;
+
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(name = "bowler_id")
+    private Long bowlerId;
+
+    @Min(1)
+    private Integer rotationOrder;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    @OneToMany(mappedBy = "player", fetch = FetchType.LAZY)
     private List<Frame> frames;
 
+    public Player(Long id, @NonNull String name, Integer totalScore, boolean isFinished, List<Frame> frames) {
+        this.id = id;
+        this.name = name;
+        this.totalScore = totalScore;
+        this.isFinished = isFinished;
+        this.frames = frames;
+    }
+
     public IntermediateScore getIntermediateScore() {
         return new IntermediateScore(this.id, this.name, this.isFinished, this.totalScore,
             this.getFrames().stream()
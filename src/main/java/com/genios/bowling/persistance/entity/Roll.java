@@ -1,19 +1,22 @@
 package com.genios.bowling.persistance.entity;
 
+import com.genios.bowling.persistance.converter.StatusConverter;
+import com.genios.bowling.record.Status;
 import com.genios.bowling.record.response.RollScore;
-import jakarta.annotation.Nullable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -29,7 +32,8 @@ import lombok.RequiredArgsConstructor;
 public class Roll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roll_seq")
+    @SequenceGenerator(name = "roll_seq", sequenceName = "roll_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "frame_id")
@@ -47,15 +51,15 @@ public class Roll {
     @NonNull
     private Integer pins;
 
-    @Nullable
-    @Pattern(regexp = "[-X/]")
-    private String status;
+    @Convert(converter = StatusConverter.class)
+    @Column(nullable = false)
+    private Status status = Status.NONE;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "frame_id", insertable = false, updatable = false)
     private Frame frame;
 
     public RollScore convertToRecord() {
-        return new RollScore(this.id, this.rollNumber, this.pins, this.getStatus());
+        return new RollScore(this.id, this.rollNumber, this.pins, this.status.getState());
     }
 }
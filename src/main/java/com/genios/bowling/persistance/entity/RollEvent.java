@@ -0,0 +1,67 @@
+package com.genios.bowling.persistance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+/**
+ * One accepted roll in the append-only log of the events storage. The events of a game are numbered from 1 in the
+ * order they were accepted, scores are never stored but folded from the events.
+ */
+@Entity
+@Table(name = "roll_event", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "sequence_number"}),
+    @UniqueConstraint(columnNames = {"user_id", "frame_number", "roll_number"})
+})
+@Data
+@NoArgsConstructor
+public class RollEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roll_event_seq")
+    @SequenceGenerator(name = "roll_event_seq", sequenceName = "roll_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private int sequenceNumber;
+
+    @Min(1)
+    @Max(10)
+    @Column(name = "frame_number", nullable = false)
+    private int frameNumber;
+
+    @Min(1)
+    @Max(3)
+    @Column(name = "roll_number", nullable = false)
+    private int rollNumber;
+
+    @Min(0)
+    @Max(10)
+    @Column(nullable = false)
+    private int pins;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public RollEvent(Long userId, int sequenceNumber, int frameNumber, int rollNumber, int pins, Instant createdAt) {
+        this.userId = userId;
+        this.sequenceNumber = sequenceNumber;
+        this.frameNumber = frameNumber;
+        this.rollNumber = rollNumber;
+        this.pins = pins;
+        this.createdAt = createdAt;
+    }
+}
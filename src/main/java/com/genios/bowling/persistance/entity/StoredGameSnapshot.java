@@ -0,0 +1,49 @@
+package com.genios.bowling.persistance.entity;
+
+import com.genios.bowling.scoring.ScoreCard;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+/**
+ * Pins of a game after all its events up to the sequence number, packed the way {@link ScoreCard#pack()} does. A game
+ * is rebuilt from its latest snapshot and the events after it. Snapshots are only ever added.
+ */
+@Entity
+@Table(name = "game_snapshot", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "sequence_number"}))
+@Data
+@NoArgsConstructor
+public class StoredGameSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_snapshot_seq")
+    @SequenceGenerator(name = "game_snapshot_seq", sequenceName = "game_snapshot_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private int sequenceNumber;
+
+    @Column(nullable = false, length = ScoreCard.SLOTS)
+    private byte[] pins;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public StoredGameSnapshot(Long userId, int sequenceNumber, byte[] pins, Instant createdAt) {
+        this.userId = userId;
+        this.sequenceNumber = sequenceNumber;
+        this.pins = pins;
+        this.createdAt = createdAt;
+    }
+}
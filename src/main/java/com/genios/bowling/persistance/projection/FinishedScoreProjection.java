@@ -0,0 +1,10 @@
+package com.genios.bowling.persistance.projection;
+
+import java.time.Instant;
+
+/**
+ * Score of a finished game with the time it was finished, read without loading the frames and rolls of the player.
+ */
+public record FinishedScoreProjection(Long userId, String name, Integer totalScore, Instant finishedAt) {
+
+}
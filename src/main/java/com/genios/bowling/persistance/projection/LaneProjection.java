@@ -0,0 +1,8 @@
+package com.genios.bowling.persistance.projection;
+
+/**
+ * Lane of an unfinished game and the session the game belongs to, if any.
+ */
+public record LaneProjection(Long userId, Integer lane, Long sessionId) {
+
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.persistance.projection;
+
+/**
+ * Player joined with the packed rolls of the game, the pins are null if no roll was made yet.
+ */
+public record PackedGameRow(Long userId, String name, Integer totalScore, boolean isFinished, byte[] pins) {
+
+}
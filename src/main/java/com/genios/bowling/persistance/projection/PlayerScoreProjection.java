@@ -0,0 +1,8 @@
+package com.genios.bowling.persistance.projection;
+
+/**
+ * Score of a finished game, read without loading the frames and rolls of the player.
+ */
+public record PlayerScoreProjection(Long userId, String name, Integer totalScore) {
+
+}
@@ -0,0 +1,9 @@
+package com.genios.bowling.persistance.projection;
+
+/**
+ * Player joined with one of its roll events, the roll is empty if the player has no events.
+ */
+public record RollEventRow(Long userId, String name, Integer totalScore, boolean isFinished,
+                           Integer frameNumber, Integer rollNumber, Integer pins) {
+
+}
@@ -0,0 +1,13 @@
+package com.genios.bowling.persistance.projection;
+
+import com.genios.bowling.record.Status;
+
+/**
+ * One roll of the game joined with its frame and player. A frame without rolls has an empty roll, a player without
+ * frames has an empty frame.
+ */
+public record ScoreRow(Long userId, String name, Integer totalScore, boolean isFinished,
+                       Long frameId, Integer frameNumber, Boolean isFinalScore, Integer frameScore,
+                       Long rollId, Integer rollNumber, Integer pins, Status status) {
+
+}
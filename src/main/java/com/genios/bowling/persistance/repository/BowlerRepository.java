@@ -0,0 +1,10 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.Bowler;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface BowlerRepository extends JpaRepository<Bowler, Long> {
+
+    Optional<Bowler> findByHandle(String handle);
+}
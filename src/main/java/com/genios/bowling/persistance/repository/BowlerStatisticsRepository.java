@@ -0,0 +1,19 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.BowlerStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+
+public interface BowlerStatisticsRepository extends JpaRepository<BowlerStatistics, Long> {
+
+    /**
+     * Locks the statistics until the end of the transaction, two games of the same bowler can finish at the same time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BowlerStatistics s where s.bowlerId = :bowlerId")
+    Optional<BowlerStatistics> findForUpdate(@Param("bowlerId") Long bowlerId);
+}
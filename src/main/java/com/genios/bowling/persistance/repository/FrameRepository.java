@@ -2,9 +2,16 @@ package com.genios.bowling.persistance.repository;
 
 import com.genios.bowling.persistance.entity.Frame;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FrameRepository extends JpaRepository<Frame, Long> {
 
     Optional<Frame> findOneByUserIdAndFrameNumber(Long userId, Integer frameNumber);
+
+    @Query("select f from Frame f left join fetch f.rolls where f.userId in :userIds")
+    List<Frame> findAllWithRollsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,8 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.LaneSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LaneSessionRepository extends JpaRepository<LaneSession, Long> {
+
+}
@@ -0,0 +1,37 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.PackedGame;
+import com.genios.bowling.persistance.projection.PackedGameRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PackedGameRepository extends JpaRepository<PackedGame, Long> {
+
+    @Modifying
+    @Query("update PackedGame g set g.pins = :pins where g.userId = :userId")
+    int updatePins(@Param("userId") Long userId, @Param("pins") byte[] pins);
+
+    @Query("select new com.genios.bowling.persistance.projection.PackedGameRow(p.id, p.name, p.totalScore, "
+        + "p.isFinished, g.pins) from Player p left join PackedGame g on g.userId = p.id where p.id = :userId")
+    Optional<PackedGameRow> findPackedGameRow(@Param("userId") Long userId);
+
+    /**
+     * Streams all finished games ordered by the player id. The rows are fetched from a cursor in chunks, so it must
+     * be consumed within a transaction and closed.
+     */
+    @Query("select new com.genios.bowling.persistance.projection.PackedGameRow(p.id, p.name, p.totalScore, "
+        + "p.isFinished, g.pins) from Player p left join PackedGame g on g.userId = p.id "
+        + "where p.isFinished = true order by p.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<PackedGameRow> streamFinishedPackedGameRows();
+}
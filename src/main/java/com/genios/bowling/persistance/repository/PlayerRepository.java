@@ -1,9 +1,64 @@
 package com.genios.bowling.persistance.repository;
 
 import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.projection.FinishedScoreProjection;
+import com.genios.bowling.persistance.projection.LaneProjection;
+import com.genios.bowling.persistance.projection.PlayerScoreProjection;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
-    int countByIsFinishedFalse();
+    @Query("select new com.genios.bowling.persistance.projection.LaneProjection(p.id, p.lane, p.sessionId) "
+        + "from Player p where p.isFinished = false order by p.id")
+    List<LaneProjection> findUnfinishedLanes();
+
+    List<Player> findBySessionIdOrderByRotationOrder(Long sessionId);
+
+    @Query("select new com.genios.bowling.persistance.projection.PlayerScoreProjection(p.id, p.name, p.totalScore) "
+        + "from Player p where p.bowlerId = :bowlerId and p.isFinished = true order by p.id desc")
+    List<PlayerScoreProjection> findFinishedGames(@Param("bowlerId") Long bowlerId, Pageable pageable);
+
+    @Query("select new com.genios.bowling.persistance.projection.PlayerScoreProjection(p.id, p.name, p.totalScore) "
+        + "from Player p where p.isFinished = true and p.totalScore is not null order by p.totalScore desc, p.id")
+    List<PlayerScoreProjection> findTopScores(Pageable pageable);
+
+    @Query("select new com.genios.bowling.persistance.projection.FinishedScoreProjection(p.id, p.name, p.totalScore, "
+        + "p.finishedAt) from Player p where p.isFinished = true and p.totalScore is not null "
+        + "and p.finishedAt >= :since order by p.finishedAt, p.id")
+    List<FinishedScoreProjection> findScoresFinishedSince(@Param("since") Instant since);
+
+    @Query("select new com.genios.bowling.persistance.projection.PlayerScoreProjection(p.id, p.name, p.totalScore) "
+        + "from Player p where p.isFinished = true and p.totalScore is not null and p.finishedAt >= :since "
+        + "order by p.totalScore desc, p.finishedAt, p.id")
+    List<PlayerScoreProjection> findTopScoresFinishedSince(@Param("since") Instant since, Pageable pageable);
+
+    @Query("select new com.genios.bowling.persistance.projection.ScoreRow(p.id, p.name, p.totalScore, p.isFinished, "
+        + "f.id, f.frameNumber, f.isFinalScore, f.frameScore, r.id, r.rollNumber, r.pins, r.status) "
+        + "from Player p left join Frame f on f.userId = p.id left join Roll r on r.frameId = f.id "
+        + "where p.id = :userId order by f.frameNumber, r.rollNumber")
+    List<ScoreRow> findScoreRows(@Param("userId") Long userId);
+
+    /**
+     * Streams the rows of all finished games ordered by the player, frame and roll numbers. The rows are fetched from
+     * a cursor in chunks, so it must be consumed within a transaction and closed.
+     */
+    @Query("select new com.genios.bowling.persistance.projection.ScoreRow(p.id, p.name, p.totalScore, p.isFinished, "
+        + "f.id, f.frameNumber, f.isFinalScore, f.frameScore, r.id, r.rollNumber, r.pins, r.status) "
+        + "from Player p left join Frame f on f.userId = p.id left join Roll r on r.frameId = f.id "
+        + "where p.isFinished = true order by p.id, f.frameNumber, r.rollNumber")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<ScoreRow> streamFinishedScoreRows();
 }
@@ -0,0 +1,29 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.RollEvent;
+import com.genios.bowling.persistance.projection.RollEventRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RollEventRepository extends JpaRepository<RollEvent, Long> {
+
+    List<RollEvent> findByUserIdAndSequenceNumberGreaterThanOrderBySequenceNumber(Long userId, int sequenceNumber);
+
+    /**
+     * Streams the events of all finished games ordered by the player and the sequence number. The rows are fetched
+     * from a cursor in chunks, so it must be consumed within a transaction and closed.
+     */
+    @Query("select new com.genios.bowling.persistance.projection.RollEventRow(p.id, p.name, p.totalScore, "
+        + "p.isFinished, e.frameNumber, e.rollNumber, e.pins) from Player p left join RollEvent e on e.userId = p.id "
+        + "where p.isFinished = true order by p.id, e.sequenceNumber")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<RollEventRow> streamFinishedRollEventRows();
+}
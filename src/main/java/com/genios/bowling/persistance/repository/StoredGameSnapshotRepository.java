@@ -0,0 +1,10 @@
+package com.genios.bowling.persistance.repository;
+
+import com.genios.bowling.persistance.entity.StoredGameSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
+
+public interface StoredGameSnapshotRepository extends JpaRepository<StoredGameSnapshot, Long> {
+
+    Optional<StoredGameSnapshot> findFirstByUserIdOrderBySequenceNumberDesc(Long userId);
+}
@@ -3,19 +3,38 @@ package com.genios.bowling.record;
 import lombok.Getter;
 
 /**
- * Contains additional info about the roll.
+ * Contains additional info about the roll. The code is what is stored in the database.
  */
 public enum Status {
-    STRIKE("X", 2), SPARE("/", 1), MISS("-", 0), NONE(null, 0);
+    STRIKE("X", 2, 1), SPARE("/", 1, 2), MISS("-", 0, 3), NONE(null, 0, 0);
+
+    private static final Status[] BY_CODE = {NONE, STRIKE, SPARE, MISS};
 
     @Getter
     private final String state;
     @Getter
     private final int bonus;
+    @Getter
+    private final short code;
 
-    Status(String state, int bonus) {
+    Status(String state, int bonus, int code) {
         this.state = state;
         this.bonus = bonus;
+        this.code = (short) code;
+    }
+
+    /**
+     * Returns the status stored with the code.
+     *
+     * @param code int code stored in the database
+     * @return {@link Status}
+     * @throws IllegalArgumentException if no status has the code
+     */
+    public static Status fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown status code " + code);
+        }
+        return BY_CODE[code];
     }
 
     public static Status fromString(String value) {
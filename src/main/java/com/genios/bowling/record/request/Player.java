@@ -1,10 +1,16 @@
 package com.genios.bowling.record.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 /**
- * Request for the rest controller with the player name.
+ * Request for the rest controller with the player name and the optional handle of the bowler, which tells apart
+ * bowlers with the same name. Without a handle the game belongs to the bowler whose handle is the name.
  */
-public record Player(@NotBlank String name) {
+public record Player(@NotBlank String name, @Size(min = 2, max = 25) @Pattern(regexp = "\\S+") String handle) {
 
+    public Player(String name) {
+        this(name, null);
+    }
 }
@@ -0,0 +1,13 @@
+package com.genios.bowling.record.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * Rolls of one player buffered by the lane controller, in the order they were made.
+ */
+public record PlayerRolls(@NotNull Long userId, @NotEmpty List<@Valid @NotNull Roll> rolls) {
+
+}
@@ -1,10 +1,13 @@
 package com.genios.bowling.record.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 /**
  * Contains information about the roll that must be saved.
  */
-public record Roll(@NotNull Integer frameNumber, @NotNull Integer rollNumber, @NotNull Integer pins) {
+public record Roll(@NotNull @Min(1) @Max(10) Integer frameNumber, @NotNull @Min(1) @Max(3) Integer rollNumber,
+                   @NotNull @Min(0) @Max(10) Integer pins) {
 
 }
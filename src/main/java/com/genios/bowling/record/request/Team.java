@@ -0,0 +1,13 @@
+package com.genios.bowling.record.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request for the rest controller with the name of the team and the names of its bowlers in the order of their turns.
+ */
+public record Team(@NotBlank String name, @NotEmpty @Size(max = 8) List<@NotBlank String> bowlers) {
+
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.record.response;
+
+/**
+ * Contains the id of the player of one finished game of the bowler and its score.
+ */
+public record BowlerGame(Long userId, Integer totalScore) {
+
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.record.response;
+
+/**
+ * Contains the id, the unique handle and the name of the bowler.
+ */
+public record BowlerRecord(Long id, String handle, String name) {
+
+}
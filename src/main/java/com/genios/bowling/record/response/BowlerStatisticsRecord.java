@@ -0,0 +1,13 @@
+package com.genios.bowling.record.response;
+
+import java.util.List;
+
+/**
+ * Contains the statistics of all the finished games of the bowler. The percentages are of the frames, the pin counts
+ * are the numbers of rolls by the pins knocked off, from 0 to 10.
+ */
+public record BowlerStatisticsRecord(Long bowlerId, String name, int games, double average, int highGame,
+                                     double strikePercentage, double sparePercentage, double openPercentage,
+                                     List<Integer> pinCounts) {
+
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.record.response;
+
+/**
+ * Contains the running total of a frame, without its rolls.
+ */
+public record FrameTotal(Integer frameNumber, boolean isFinalScore, Integer score) {
+
+}
@@ -0,0 +1,10 @@
+package com.genios.bowling.record.response;
+
+import java.util.List;
+
+/**
+ * Summary of an import: how many games were saved and rejected and why the first of them were rejected.
+ */
+public record ImportResult(long imported, long rejected, List<String> errors) {
+
+}
@@ -1,8 +1,8 @@
 package com.genios.bowling.record.response;
 
 /**
- * Contains id of the created player if he was created
+ * Contains id of the created player and the lane he plays on if he was created
  */
-public record PlayerCreated(Long id) {
+public record PlayerCreated(Long id, Integer lane) {
 
 }
@@ -0,0 +1,8 @@
+package com.genios.bowling.record.response;
+
+/**
+ * Result of saving the buffered rolls of one player: the score after the rolls or the reason none of them was saved.
+ */
+public record PlayerRollsResult(Long userId, IntermediateScore score, String error) {
+
+}
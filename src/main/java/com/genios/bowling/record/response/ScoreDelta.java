@@ -0,0 +1,11 @@
+package com.genios.bowling.record.response;
+
+import java.util.List;
+
+/**
+ * Contains the saved roll and the frames that were finalized with it, pushed to the subscribers of the game.
+ */
+public record ScoreDelta(Long userId, Integer frameNumber, Integer rollNumber, Integer pins, String status,
+                         boolean isGameOver, Integer finalScore, List<FrameTotal> frames) {
+
+}
@@ -0,0 +1,10 @@
+package com.genios.bowling.record.response;
+
+import java.util.List;
+
+/**
+ * Contains the id of the created session, the lane of the team and the ids of the bowlers in the order of their turns.
+ */
+public record SessionCreated(Long id, Integer lane, List<Long> bowlerIds) {
+
+}
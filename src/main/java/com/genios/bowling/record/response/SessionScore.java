@@ -0,0 +1,11 @@
+package com.genios.bowling.record.response;
+
+import java.util.List;
+
+/**
+ * Contains the score of the team, the bowler whose turn is next and the games of all the bowlers of the session.
+ */
+public record SessionScore(Long id, String name, Integer lane, boolean isFinished, int teamScore, Long nextUserId,
+                           List<IntermediateScore> bowlers) {
+
+}
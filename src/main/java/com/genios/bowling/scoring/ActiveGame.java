@@ -0,0 +1,165 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.record.Status;
+import com.genios.bowling.record.response.FrameScore;
+import com.genios.bowling.record.response.FrameTotal;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.RollScore;
+import com.genios.bowling.record.response.ScoreDelta;
+import lombok.Getter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Live state of an unfinished game: the {@link ScoreCard} plus everything needed to answer the score requests without
+ * reading the database, ids of the saved frames and rolls and the roll statuses.
+ */
+public class ActiveGame {
+
+    @Getter
+    private final Long userId;
+    @Getter
+    private final String name;
+    @Getter
+    private final Integer totalScore;
+    @Getter
+    private final ScoreCard scoreCard = new ScoreCard();
+
+    private final long[] frameIds = new long[ScoreCard.FRAMES];
+    private final long[] rollIds = new long[ScoreCard.SLOTS];
+    private final Status[] statuses = new Status[ScoreCard.SLOTS];
+
+    /**
+     * State published for the readers of the game, replaced after every committed command.
+     */
+    @Getter
+    private volatile GameSnapshot snapshot;
+
+    public ActiveGame(Long userId, String name, Integer totalScore) {
+        this.userId = userId;
+        this.name = name;
+        this.totalScore = totalScore;
+    }
+
+    /**
+     * Returns id of the saved frame or null if the frame was not saved yet.
+     */
+    public Long getFrameId(int frameNumber) {
+        long id = frameIds[frameNumber - 1];
+        return id == 0 ? null : id;
+    }
+
+    public void setFrameId(int frameNumber, Long id) {
+        frameIds[frameNumber - 1] = id;
+        scoreCard.openFrame(frameNumber);
+    }
+
+    /**
+     * Applies a new roll to the score card and remembers its status.
+     *
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param pins int how many pins were knocked off
+     * @return {@link Status} of the roll
+     */
+    public Status roll(int frameNumber, int rollNumber, int pins) {
+        Status status = scoreCard.roll(frameNumber, rollNumber, pins);
+        statuses[ScoreCard.slot(frameNumber, rollNumber)] = status;
+        return status;
+    }
+
+    /**
+     * Stores a roll loaded from the database together with its id and status.
+     */
+    public void setRoll(int frameNumber, int rollNumber, int pins, Long id, Status status) {
+        statuses[ScoreCard.slot(frameNumber, rollNumber)] = status;
+        setRollId(frameNumber, rollNumber, id);
+        scoreCard.restoreRoll(frameNumber, rollNumber, pins);
+    }
+
+    /**
+     * Stores the ids of a roll that was saved after it was applied to the game. The frame is already open on the
+     * card, so the card is not touched.
+     */
+    public void setSavedIds(int frameNumber, int rollNumber, Long frameId, Long rollId) {
+        frameIds[frameNumber - 1] = frameId;
+        setRollId(frameNumber, rollNumber, rollId);
+    }
+
+    public void setRollId(int frameNumber, int rollNumber, Long id) {
+        rollIds[ScoreCard.slot(frameNumber, rollNumber)] = id == null ? 0 : id;
+    }
+
+    public Status getStatus(int frameNumber, int rollNumber) {
+        Status status = statuses[ScoreCard.slot(frameNumber, rollNumber)];
+        return status == null ? Status.NONE : status;
+    }
+
+    /**
+     * Publishes the current state of the game for the readers. Only the thread running the commands of the game calls
+     * it, once the command is committed, so the readers never see a roll that can still be rolled back.
+     */
+    public void publish() {
+        snapshot = toSnapshot();
+    }
+
+    /**
+     * Returns the current state of the game, the score and the next frame and roll.
+     *
+     * @return {@link GameSnapshot}
+     */
+    public GameSnapshot toSnapshot() {
+        return new GameSnapshot(toIntermediateScore(), scoreCard.isGameOver(), scoreCard.getNextFrameNumber(),
+            scoreCard.getNextRollNumber());
+    }
+
+    /**
+     * Converts the game into a record, suitable for the frontend. Frames and rolls are ordered by their numbers.
+     *
+     * @return {@link IntermediateScore}
+     */
+    public IntermediateScore toIntermediateScore() {
+        List<FrameScore> frames = new ArrayList<>(ScoreCard.FRAMES);
+        for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+            if (scoreCard.hasFrame(frameNumber)) {
+                frames.add(toFrameScore(frameNumber));
+            }
+        }
+        boolean isFinished = scoreCard.isComplete();
+        Integer finalScore = isFinished ? Integer.valueOf(scoreCard.getTotalScore()) : totalScore;
+        return new IntermediateScore(userId, name, isFinished, finalScore, frames);
+    }
+
+    /**
+     * Describes the roll that was just applied: the roll itself and the frames it finalized.
+     *
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param finalizedBefore int number of frames that were finalized before the roll
+     * @return {@link ScoreDelta}
+     */
+    public ScoreDelta toScoreDelta(int frameNumber, int rollNumber, int finalizedBefore) {
+        List<FrameTotal> frames = new ArrayList<>(scoreCard.getFinalizedFrames() - finalizedBefore);
+        for (int finalized = finalizedBefore + 1; finalized <= scoreCard.getFinalizedFrames(); finalized++) {
+            frames.add(new FrameTotal(finalized, true, scoreCard.getFrameScore(finalized)));
+        }
+        boolean isFinished = scoreCard.isComplete();
+        Integer finalScore = isFinished ? Integer.valueOf(scoreCard.getTotalScore()) : totalScore;
+        return new ScoreDelta(userId, frameNumber, rollNumber, scoreCard.getPins(frameNumber, rollNumber),
+            getStatus(frameNumber, rollNumber).getState(), isFinished, finalScore, frames);
+    }
+
+    private FrameScore toFrameScore(int frameNumber) {
+        List<RollScore> rolls = new ArrayList<>(ScoreCard.ROLLS_PER_FRAME);
+        for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+            if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                long id = rollIds[ScoreCard.slot(frameNumber, rollNumber)];
+                rolls.add(new RollScore(id == 0 ? null : id, rollNumber, scoreCard.getPins(frameNumber, rollNumber),
+                    getStatus(frameNumber, rollNumber).getState()));
+            }
+        }
+        boolean isFinalScore = scoreCard.isFinalized(frameNumber);
+        Integer score = isFinalScore ? scoreCard.getFrameScore(frameNumber) : null;
+        return new FrameScore(getFrameId(frameNumber), frameNumber, isFinalScore, score, rolls);
+    }
+}
@@ -0,0 +1,95 @@
+package com.genios.bowling.scoring;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the live state of the unfinished games in memory. Every unfinished game holds a lane, so they are bounded by
+ * the lanes and are not evicted: a game is only dropped by its own queue or its own transaction, never while another
+ * command works on it. The database stays the source of truth: a game is dropped as soon as it is finished or its transaction fails, and it
+ * is loaded again on the next request.
+ */
+@Component
+public class ActiveGameRegistry {
+
+    private final Map<Long, ActiveGame> games = new ConcurrentHashMap<>();
+
+    public Optional<ActiveGame> find(Long userId) {
+        return Optional.ofNullable(games.get(userId));
+    }
+
+    /**
+     * Registers the game unless another request loaded it first. The game is loaded from committed rows, so its state
+     * is published right away.
+     *
+     * @param game {@link ActiveGame} loaded from the database
+     * @return the game kept by the registry
+     */
+    public ActiveGame register(ActiveGame game) {
+        game.publish();
+        ActiveGame existing = games.putIfAbsent(game.getUserId(), game);
+        return existing == null ? game : existing;
+    }
+
+    public void remove(Long userId) {
+        games.remove(userId);
+    }
+
+    /**
+     * Drops the game when the current transaction is rolled back, so the state in memory never runs ahead of the
+     * database.
+     *
+     * @param userId Long id of the player
+     */
+    public void removeOnRollback(Long userId) {
+        afterCompletion(userId, false);
+    }
+
+    /**
+     * Drops the game once the current transaction is committed, used when the game is finished.
+     *
+     * @param userId Long id of the player
+     */
+    public void removeAfterCommit(Long userId) {
+        afterCompletion(userId, true);
+    }
+
+    /**
+     * Publishes the state of the game for the readers once the current transaction is committed.
+     *
+     * @param game {@link ActiveGame} changed by the current command
+     */
+    public void publishAfterCommit(ActiveGame game) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            game.publish();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                game.publish();
+            }
+        });
+    }
+
+    private void afterCompletion(Long userId, boolean isOnCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (isOnCommit) {
+                remove(userId);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (isOnCommit == (status == STATUS_COMMITTED)) {
+                    remove(userId);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.record.response.IntermediateScore;
+
+/**
+ * State of a game as of its last committed command, what the requests that only read the game are answered from. It
+ * is never changed once created, so it is read without waiting for the commands of the game.
+ */
+public record GameSnapshot(IntermediateScore score, boolean isGameOver, int nextFrameNumber, int nextRollNumber) {
+
+    /**
+     * Returns the snapshot of a finished game, it has no next frame.
+     */
+    public static GameSnapshot ofFinished(IntermediateScore score) {
+        return new GameSnapshot(score, true, 0, 0);
+    }
+}
@@ -0,0 +1,199 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.persistance.projection.PlayerScoreProjection;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.PlayerScore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Top scores of the finished games kept in memory. Scores are 0 to 300, so the games are put into a bucket per score
+ * and a page is read by walking the buckets from the highest score, nothing is sorted. Only the best games up to the
+ * capacity are kept, games with the same score are ordered by the time they were finished.
+ * <p>
+ * The board is loaded with one projection query the first time it is used and updated after every finished game.
+ */
+@Component
+public class Leaderboard {
+
+    private static final int MAX_SCORE = 300;
+
+    private final int capacity;
+    private final PlayerRepository playerRepository;
+
+    private final List<List<PlayerScoreProjection>> buckets = new ArrayList<>(MAX_SCORE + 1);
+    private final Set<Long> userIds = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean isLoaded;
+    private int size;
+
+    @Autowired
+    public Leaderboard(BowlingConfiguration configuration, PlayerRepository playerRepository) {
+        this.capacity = Math.max(configuration.getLeaderboard().getCapacity(), 1);
+        this.playerRepository = playerRepository;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns a page of the board, the best score first.
+     *
+     * @param page int number of the page, starting with 0
+     * @param pageSize int max number of scores on the page
+     * @return list of {@link PlayerScore}
+     */
+    public List<PlayerScore> getPage(int page, int pageSize) {
+        load();
+        lock.readLock().lock();
+        try {
+            long skip = (long) page * pageSize;
+            List<PlayerScore> result = new ArrayList<>((int) Math.min(pageSize, Math.max(size - skip, 0)));
+            for (int score = MAX_SCORE; score >= 0 && result.size() < pageSize; score--) {
+                List<PlayerScoreProjection> bucket = buckets.get(score);
+                if (skip >= bucket.size()) {
+                    skip -= bucket.size();
+                    continue;
+                }
+                for (int i = (int) skip; i < bucket.size() && result.size() < pageSize; i++) {
+                    result.add(new PlayerScore(bucket.get(i).name(), score));
+                }
+                skip = 0;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the whole board, it is never longer than the capacity.
+     */
+    public List<PlayerScore> getAll() {
+        return getPage(0, capacity);
+    }
+
+    /**
+     * Returns the max number of games kept on the board.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the board holds as many games as it can keep, then there may be worse games that are only in the
+     * database.
+     */
+    public boolean isFull() {
+        load();
+        lock.readLock().lock();
+        try {
+            return size == capacity;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of finished games added to the board so far, it changes whenever the board may have changed.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Puts the finished game on the board if it is good enough. A game that is already there is skipped. If the board
+     * is not loaded yet nothing is done, the game is read from the database with the rest.
+     *
+     * @param userId Long id of the player
+     * @param name String name of the player
+     * @param score int final score of the game
+     */
+    public void add(Long userId, String name, int score) {
+        lock.writeLock().lock();
+        try {
+            if (isLoaded) {
+                put(new PlayerScoreProjection(userId, name, score));
+            }
+        } finally {
+            lock.writeLock().unlock();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Puts the finished game on the board once the current transaction is committed.
+     *
+     * @param userId Long id of the player
+     * @param name String name of the player
+     * @param score int final score of the game
+     */
+    public void addAfterCommit(Long userId, String name, int score) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(userId, name, score);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(userId, name, score);
+            }
+        });
+    }
+
+    private void load() {
+        if (isLoaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!isLoaded) {
+                playerRepository.findTopScores(PageRequest.of(0, capacity)).forEach(this::put);
+                isLoaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(PlayerScoreProjection entry) {
+        int score = entry.totalScore();
+        if (userIds.contains(entry.userId())) {
+            return;
+        }
+        if (size == capacity) {
+            int lowestScore = getLowestScore();
+            if (score <= lowestScore) {
+                return;
+            }
+            List<PlayerScoreProjection> lowest = buckets.get(lowestScore);
+            userIds.remove(lowest.remove(lowest.size() - 1).userId());
+            size--;
+        }
+        buckets.get(score).add(entry);
+        userIds.add(entry.userId());
+        size++;
+    }
+
+    private int getLowestScore() {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            if (!buckets.get(score).isEmpty()) {
+                return score;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.exception.GameAlreadyFinishedException;
+import com.genios.bowling.exception.frame.FrameNotFoundException;
+import com.genios.bowling.exception.roll.InvalidRollException;
+import com.genios.bowling.exception.roll.RollAlreadyExistsException;
+
+/**
+ * Rules a roll is checked against before it is applied to the {@link ScoreCard}, shared by the servlet and the
+ * reactive stacks.
+ */
+public final class RollRules {
+
+    private RollRules() {
+    }
+
+    /**
+     * Throws the exception of the first rule the roll breaks.
+     *
+     * @param scoreCard {@link ScoreCard} of the game
+     * @param userId Long id of the player, used in the messages
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param pins int pins knocked down
+     */
+    public static void check(ScoreCard scoreCard, Long userId, int frameNumber, int rollNumber, int pins) {
+        if (rollNumber != 1 && !scoreCard.hasFrame(frameNumber)) {
+            throw new FrameNotFoundException(
+                "Frame with number " + frameNumber + " not found. For the roll that's higher than one it must exist");
+        }
+        if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+            throw new RollAlreadyExistsException(
+                "For the frame " + frameNumber + " roll " + rollNumber + " was already saved.");
+        }
+        if (scoreCard.isGameOver()) {
+            throw new GameAlreadyFinishedException(
+                "No frames left for the current game for the user with id " + userId);
+        }
+        if (scoreCard.getAvailablePins(frameNumber, pins) < pins) {
+            throw new InvalidRollException(
+                "Received the number of pins higher than the number of available pins on a frame");
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.exception.roll.RollNotFoundException;
+import com.genios.bowling.record.Status;
+import java.util.Arrays;
+
+/**
+ * Score card of a single game backed by primitive arrays.
+ * <p>
+ * Every frame owns three slots in the pins array, so a roll is addressed by its frame and roll number directly.
+ * Running totals are kept incrementally: applying a roll finalizes only the frames that became complete with it,
+ * nothing is allocated and no frame is walked again.
+ */
+public final class ScoreCard {
+
+    public static final int FRAMES = 10;
+    public static final int MAX_PINS = 10;
+    public static final int ROLLS_PER_FRAME = 3;
+    public static final int SLOTS = FRAMES * ROLLS_PER_FRAME;
+
+    private static final byte EMPTY = -1;
+
+    private final byte[] pins = new byte[SLOTS];
+    private final byte[] rollCounts = new byte[FRAMES];
+    private final short[] frameScores = new short[FRAMES];
+
+    private int openedFrames;
+    private int finalizedFrames;
+    private int totalScore;
+
+    public ScoreCard() {
+        Arrays.fill(pins, EMPTY);
+    }
+
+    /**
+     * Returns an independent copy of the card, used to check several rolls before any of them is applied.
+     *
+     * @return {@link ScoreCard}
+     */
+    public ScoreCard copy() {
+        ScoreCard copy = new ScoreCard();
+        System.arraycopy(pins, 0, copy.pins, 0, SLOTS);
+        System.arraycopy(rollCounts, 0, copy.rollCounts, 0, FRAMES);
+        System.arraycopy(frameScores, 0, copy.frameScores, 0, FRAMES);
+        copy.openedFrames = openedFrames;
+        copy.finalizedFrames = finalizedFrames;
+        copy.totalScore = totalScore;
+        return copy;
+    }
+
+    /**
+     * Returns the pins of every slot, three slots per frame, -1 for the rolls not made yet. This is how a game is saved
+     * in the packed storage.
+     *
+     * @return byte array of {@link #SLOTS} elements
+     */
+    public byte[] pack() {
+        return pins.clone();
+    }
+
+    /**
+     * Marks the frame as started even if it has no rolls yet.
+     *
+     * @param frameNumber int number of the frame, 1 to 10
+     */
+    public void openFrame(int frameNumber) {
+        openedFrames |= 1 << frameNumber;
+    }
+
+    public boolean hasFrame(int frameNumber) {
+        return (openedFrames & (1 << frameNumber)) != 0;
+    }
+
+    public boolean hasRoll(int frameNumber, int rollNumber) {
+        return pins[slot(frameNumber, rollNumber)] != EMPTY;
+    }
+
+    /**
+     * Returns pins knocked off by the roll or -1 if the roll was not made yet.
+     */
+    public int getPins(int frameNumber, int rollNumber) {
+        return pins[slot(frameNumber, rollNumber)];
+    }
+
+    public int getRollCount(int frameNumber) {
+        return rollCounts[frameNumber - 1];
+    }
+
+    /**
+     * Returns how many pins can be knocked off by the next roll of the frame. Strikes do not count, so the last frame
+     * can be filled with three strikes.
+     *
+     * @param frameNumber int number of the frame
+     * @param nextPins int pins of the roll that is about to be saved
+     * @return number of pins still standing
+     */
+    public int getAvailablePins(int frameNumber, int nextPins) {
+        if (nextPins == MAX_PINS) {
+            return MAX_PINS;
+        }
+        int standing = MAX_PINS;
+        int first = slot(frameNumber, 1);
+        for (int i = first; i < first + ROLLS_PER_FRAME; i++) {
+            boolean isStrike = i == first && pins[i] == MAX_PINS;
+            if (pins[i] != EMPTY && !isStrike) {
+                standing -= pins[i];
+            }
+        }
+        return standing;
+    }
+
+    /**
+     * Calculates status the roll would get, without saving it.
+     *
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param rollPins int how many pins were knocked off
+     * @return {@link Status}
+     */
+    public Status getStatus(int frameNumber, int rollNumber, int rollPins) {
+        if (rollPins == MAX_PINS && rollNumber == 1) {
+            return Status.STRIKE;
+        }
+        if (rollPins == 0) {
+            return Status.MISS;
+        }
+        if (rollNumber == 2 && frameNumber != FRAMES) {
+            int firstPins = pins[slot(frameNumber, 1)];
+            if (firstPins == EMPTY) {
+                throw new RollNotFoundException("First roll for the frame number " + frameNumber + " not found");
+            }
+            if (firstPins + rollPins == MAX_PINS) {
+                return Status.SPARE;
+            }
+        }
+        return Status.NONE;
+    }
+
+    /**
+     * Saves the roll and finalizes the frames that can be scored with it.
+     *
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param rollPins int how many pins were knocked off
+     * @return {@link Status} of the roll
+     */
+    public Status roll(int frameNumber, int rollNumber, int rollPins) {
+        Status status = getStatus(frameNumber, rollNumber, rollPins);
+        restoreRoll(frameNumber, rollNumber, rollPins);
+        return status;
+    }
+
+    /**
+     * Puts an already validated roll on the card, used when the card is rebuilt from saved rolls.
+     */
+    public void restoreRoll(int frameNumber, int rollNumber, int rollPins) {
+        int slot = slot(frameNumber, rollNumber);
+        if (pins[slot] == EMPTY) {
+            rollCounts[frameNumber - 1]++;
+        }
+        pins[slot] = (byte) rollPins;
+        openFrame(frameNumber);
+        finalizeFrames();
+    }
+
+    /**
+     * Returns the running total of the frame if it is finalized, otherwise total pins knocked off in the frame.
+     */
+    public int getFrameScore(int frameNumber) {
+        if (isFinalized(frameNumber)) {
+            return frameScores[frameNumber - 1];
+        }
+        return getFramePins(frameNumber);
+    }
+
+    public boolean isFinalized(int frameNumber) {
+        return frameNumber <= finalizedFrames;
+    }
+
+    public int getFinalizedFrames() {
+        return finalizedFrames;
+    }
+
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    public boolean isComplete() {
+        return finalizedFrames == FRAMES;
+    }
+
+    /**
+     * Checks if the last frame has no rolls left.
+     */
+    public boolean isGameOver() {
+        int rolls = getRollCount(FRAMES);
+        return rolls == ROLLS_PER_FRAME || rolls == 2 && getPins(FRAMES, 1) != MAX_PINS;
+    }
+
+    /**
+     * Returns the highest frame that was started or 0 when the game has no frames yet.
+     */
+    public int getLastFrameNumber() {
+        return 31 - Integer.numberOfLeadingZeros(openedFrames | 1);
+    }
+
+    public int getNextFrameNumber() {
+        int lastFrame = getLastFrameNumber();
+        if (lastFrame == 0) {
+            return 1;
+        }
+        if (areRollsLeft(lastFrame) && !isStrikeBeforeLastFrame(lastFrame)) {
+            return lastFrame;
+        }
+        return lastFrame + 1;
+    }
+
+    public int getNextRollNumber() {
+        int lastFrame = getLastFrameNumber();
+        if (lastFrame == 0 || getNextFrameNumber() != lastFrame) {
+            return 1;
+        }
+        return getLastRollNumber(lastFrame) + 1;
+    }
+
+    private boolean areRollsLeft(int frameNumber) {
+        int rolls = getRollCount(frameNumber);
+        if (rolls < 2) {
+            return true;
+        }
+        return frameNumber == FRAMES && rolls == 2 && getPins(FRAMES, 1) == MAX_PINS;
+    }
+
+    private boolean isStrikeBeforeLastFrame(int frameNumber) {
+        int lastRoll = getLastRollNumber(frameNumber);
+        return frameNumber != FRAMES && lastRoll > 0 && getPins(frameNumber, lastRoll) == MAX_PINS;
+    }
+
+    private int getLastRollNumber(int frameNumber) {
+        for (int rollNumber = ROLLS_PER_FRAME; rollNumber > 0; rollNumber--) {
+            if (hasRoll(frameNumber, rollNumber)) {
+                return rollNumber;
+            }
+        }
+        return 0;
+    }
+
+    private int getFramePins(int frameNumber) {
+        int sum = 0;
+        int first = slot(frameNumber, 1);
+        for (int i = first; i < first + ROLLS_PER_FRAME; i++) {
+            if (pins[i] != EMPTY) {
+                sum += pins[i];
+            }
+        }
+        return sum;
+    }
+
+    private void finalizeFrames() {
+        int bonus;
+        while (finalizedFrames < FRAMES && (bonus = getBonus(finalizedFrames + 1)) >= 0) {
+            totalScore += getFramePins(finalizedFrames + 1) + bonus;
+            frameScores[finalizedFrames] = (short) totalScore;
+            finalizedFrames++;
+        }
+    }
+
+    /**
+     * Returns bonus pins of the frame or -1 if the frame cannot be finalized yet.
+     */
+    private int getBonus(int frameNumber) {
+        int first = getPins(frameNumber, 1);
+        int second = getPins(frameNumber, 2);
+        if (frameNumber == FRAMES) {
+            boolean isDone = first == MAX_PINS ? hasRoll(FRAMES, 3) : second != EMPTY;
+            return isDone ? 0 : -1;
+        }
+        if (first == MAX_PINS) {
+            int next = getPins(frameNumber + 1, 1);
+            int afterNext = next == MAX_PINS && frameNumber + 1 < FRAMES
+                ? getPins(frameNumber + 2, 1)
+                : getPins(frameNumber + 1, 2);
+            return next == EMPTY || afterNext == EMPTY ? -1 : next + afterNext;
+        }
+        if (first == EMPTY || second == EMPTY) {
+            return -1;
+        }
+        if (first + second == MAX_PINS) {
+            int next = getPins(frameNumber + 1, 1);
+            return next == EMPTY ? -1 : next;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns index of the roll in the arrays of the card, rolls of every frame take {@link #ROLLS_PER_FRAME} slots.
+     */
+    public static int slot(int frameNumber, int rollNumber) {
+        return (frameNumber - 1) * ROLLS_PER_FRAME + rollNumber - 1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.genios.bowling.scoring;
+
+import lombok.Getter;
+
+/**
+ * Windows of the score board by the day the games were finished. A window ends today and is counted in whole days, so
+ * the week is today and the six days before. The days of {@link #ALL_TIME} are 0, it has no end.
+ */
+public enum ScoreWindow {
+    TODAY(1), WEEK(7), MONTH(30), ALL_TIME(0);
+
+    @Getter
+    private final int days;
+
+    ScoreWindow(int days) {
+        this.days = days;
+    }
+}
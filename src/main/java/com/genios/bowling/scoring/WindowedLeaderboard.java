@@ -0,0 +1,275 @@
+package com.genios.bowling.scoring;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.persistance.projection.FinishedScoreProjection;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.PlayerScore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Top scores of the games finished in the last days, kept in memory next to the all-time {@link Leaderboard}. Every day
+ * has a bucket with its best games up to the capacity, the buckets are kept in a ring with a slot per day of the
+ * longest window. A slot is taken over by a new day once its day falls out of the ring, so old games expire without
+ * being removed one by one. A window is read by merging the buckets of its days, the best score first and games with
+ * the same score in the order they were finished.
+ * <p>
+ * The ring is loaded with one projection query of the games finished since its first day the first time it is used
+ * and updated after every finished game. Games without the time they were finished, like the imported ones, are only
+ * on the all-time board. Only the first {@code capacity} games of a window are always complete: once the bucket of a
+ * day in the window is full, the games beyond them have to be read from the database.
+ */
+@Component
+public class WindowedLeaderboard {
+
+    private static final int DAYS = ScoreWindow.MONTH.getDays();
+
+    private final int capacity;
+    private final ZoneId zone;
+    private final PlayerRepository playerRepository;
+
+    private final DayBucket[] ring = new DayBucket[DAYS];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile boolean isLoaded;
+
+    @Autowired
+    public WindowedLeaderboard(BowlingConfiguration configuration, PlayerRepository playerRepository) {
+        this.capacity = Math.max(configuration.getLeaderboard().getCapacity(), 1);
+        this.zone = configuration.getLeaderboard().getZone();
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Returns a page of the board of the window ending today, the best score first.
+     *
+     * @param window {@link ScoreWindow} the games were finished in, not {@link ScoreWindow#ALL_TIME}
+     * @param page int number of the page, starting with 0
+     * @param pageSize int max number of scores on the page
+     * @return list of {@link PlayerScore}
+     */
+    public List<PlayerScore> getPage(ScoreWindow window, int page, int pageSize) {
+        return getPage(window, page, pageSize, LocalDate.now(zone));
+    }
+
+    List<PlayerScore> getPage(ScoreWindow window, int page, int pageSize, LocalDate today) {
+        if (window == ScoreWindow.ALL_TIME) {
+            throw new IllegalArgumentException("The all-time scores are kept by the Leaderboard");
+        }
+        load();
+        lock.readLock().lock();
+        try {
+            List<List<FinishedScoreProjection>> days = new ArrayList<>(window.getDays());
+            for (long day = today.toEpochDay() - window.getDays() + 1; day <= today.toEpochDay(); day++) {
+                DayBucket bucket = ring[slotOf(day)];
+                if (bucket != null && bucket.epochDay == day) {
+                    days.add(bucket.scores);
+                }
+            }
+            return merge(days, (long) page * pageSize, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the max number of games kept for a day, the first so many games of every window are on the board.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Checks if the bucket of a day in the window holds as many games as it can keep, then there may be games of the
+     * window beyond the capacity that are only in the database.
+     *
+     * @param window {@link ScoreWindow} the games were finished in, not {@link ScoreWindow#ALL_TIME}
+     * @return true if a day of the window is full
+     */
+    public boolean isFull(ScoreWindow window) {
+        return isFull(window, LocalDate.now(zone));
+    }
+
+    boolean isFull(ScoreWindow window, LocalDate today) {
+        load();
+        lock.readLock().lock();
+        try {
+            for (long day = today.toEpochDay() - window.getDays() + 1; day <= today.toEpochDay(); day++) {
+                DayBucket bucket = ring[slotOf(day)];
+                if (bucket != null && bucket.epochDay == day && bucket.scores.size() >= capacity) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the time the window ending today starts at, the start of its first day.
+     *
+     * @param window {@link ScoreWindow} the games were finished in
+     * @return {@link Instant}
+     */
+    public Instant getStart(ScoreWindow window) {
+        return LocalDate.now(zone).minusDays(window.getDays() - 1).atStartOfDay(zone).toInstant();
+    }
+
+    /**
+     * Returns the number of finished games added to the boards so far. The boards also change when the day rolls over,
+     * which the version does not count.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Puts the finished game on the board of its day if it is good enough. A game that is already there or finished
+     * before the first day of the ring is skipped. If the board is not loaded yet nothing is done, the game is read
+     * from the database with the rest.
+     *
+     * @param userId Long id of the player
+     * @param name String name of the player
+     * @param score int final score of the game
+     * @param finishedAt {@link Instant} the game was finished
+     */
+    public void add(Long userId, String name, int score, Instant finishedAt) {
+        lock.writeLock().lock();
+        try {
+            if (isLoaded) {
+                put(new FinishedScoreProjection(userId, name, score, finishedAt));
+            }
+        } finally {
+            lock.writeLock().unlock();
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Puts the finished game on the board of its day once the current transaction is committed.
+     *
+     * @param userId Long id of the player
+     * @param name String name of the player
+     * @param score int final score of the game
+     * @param finishedAt {@link Instant} the game was finished
+     */
+    public void addAfterCommit(Long userId, String name, int score, Instant finishedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(userId, name, score, finishedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(userId, name, score, finishedAt);
+            }
+        });
+    }
+
+    private void load() {
+        if (isLoaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!isLoaded) {
+                Instant since = LocalDate.now(zone).minusDays(DAYS - 1).atStartOfDay(zone).toInstant();
+                playerRepository.findScoresFinishedSince(since).forEach(this::put);
+                isLoaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(FinishedScoreProjection entry) {
+        if (entry.finishedAt() == null) {
+            return;
+        }
+        long day = LocalDate.ofInstant(entry.finishedAt(), zone).toEpochDay();
+        int slot = slotOf(day);
+        DayBucket bucket = ring[slot];
+        if (bucket == null || bucket.epochDay < day) {
+            bucket = new DayBucket(day);
+            ring[slot] = bucket;
+        } else if (bucket.epochDay > day) {
+            return;
+        }
+        bucket.put(entry, capacity);
+    }
+
+    private List<PlayerScore> merge(List<List<FinishedScoreProjection>> days, long skip, int pageSize) {
+        List<PlayerScore> result = new ArrayList<>();
+        int[] positions = new int[days.size()];
+        while (result.size() < pageSize) {
+            int best = -1;
+            for (int i = 0; i < days.size(); i++) {
+                List<FinishedScoreProjection> scores = days.get(i);
+                if (positions[i] < scores.size() && (best == -1
+                    || scores.get(positions[i]).totalScore() > days.get(best).get(positions[best]).totalScore())) {
+                    best = i;
+                }
+            }
+            if (best == -1) {
+                break;
+            }
+            FinishedScoreProjection entry = days.get(best).get(positions[best]++);
+            if (skip > 0) {
+                skip--;
+            } else {
+                result.add(new PlayerScore(entry.name(), entry.totalScore()));
+            }
+        }
+        return result;
+    }
+
+    private static int slotOf(long epochDay) {
+        return (int) Math.floorMod(epochDay, DAYS);
+    }
+
+    /**
+     * Best games of one day ordered by the score, games with the same score in the order they were finished.
+     */
+    private static final class DayBucket {
+
+        private final long epochDay;
+        private final List<FinishedScoreProjection> scores = new ArrayList<>();
+        private final Set<Long> userIds = new HashSet<>();
+
+        private DayBucket(long epochDay) {
+            this.epochDay = epochDay;
+        }
+
+        private void put(FinishedScoreProjection entry, int capacity) {
+            if (userIds.contains(entry.userId())) {
+                return;
+            }
+            int position = scores.size();
+            while (position > 0 && scores.get(position - 1).totalScore() < entry.totalScore()) {
+                position--;
+            }
+            if (position == capacity) {
+                return;
+            }
+            scores.add(position, entry);
+            userIds.add(entry.userId());
+            if (scores.size() > capacity) {
+                userIds.remove(scores.remove(scores.size() - 1).userId());
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.configuration.VirtualThreadSupport;
+import com.genios.bowling.metrics.GameMetrics;
+import com.genios.bowling.metrics.SqlStatementCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the commands of one game one after another, commands of different games run in parallel. Games are sharded by
+ * the player id over a fixed set of single-threaded queues, so two requests for the same game never race and a
+ * duplicated roll is rejected by the game itself instead of the unique constraint of the database. The games of a team
+ * sharing a lane are queued together, by the key of their session. The queues run on
+ * virtual threads when {@code bowling.threads.virtual} is switched on.
+ */
+@Component
+@Slf4j
+public class GameCommandExecutor {
+
+    private static final int NO_SHARD = -1;
+    private static final ThreadLocal<Integer> CURRENT_SHARD = ThreadLocal.withInitial(() -> NO_SHARD);
+
+    private final ExecutorService[] shards;
+    private final GameMetrics gameMetrics;
+    private final LaneAllocator laneAllocator;
+
+    @Autowired
+    public GameCommandExecutor(BowlingConfiguration configuration, GameMetrics gameMetrics,
+        LaneAllocator laneAllocator) {
+        this.gameMetrics = gameMetrics;
+        this.laneAllocator = laneAllocator;
+        int shardCount = configuration.getCommands().getShards();
+        if (shardCount < 1) {
+            shardCount = Runtime.getRuntime().availableProcessors();
+        }
+        this.shards = new ExecutorService[shardCount];
+        boolean isVirtual = configuration.getThreads().isVirtual();
+        for (int i = 0; i < shardCount; i++) {
+            int shardIndex = i;
+            String name = "game-commands-" + i;
+            ThreadFactory threadFactory = isVirtual
+                ? VirtualThreadSupport.newThreadFactory(name + "-")
+                : r -> {
+                    Thread thread = new Thread(r, name);
+                    thread.setDaemon(true);
+                    return thread;
+                };
+            shards[i] = Executors.newSingleThreadExecutor(r -> threadFactory.newThread(() -> {
+                CURRENT_SHARD.set(shardIndex);
+                r.run();
+            }));
+        }
+    }
+
+    /**
+     * Runs the command in the queue of the game and waits for its result. Exceptions of the command are thrown as they
+     * are. A command started from a command of the same queue runs right away, a command for another queue cannot be
+     * started from a command, because two queues waiting for each other would never finish. The SQL statements of the
+     * command are counted for the calling thread.
+     *
+     * @param userId Long id of the player the command belongs to
+     * @param command the command
+     * @return result of the command
+     * @throws IllegalStateException if called from a command of another queue
+     */
+    public <T> T execute(Long userId, Supplier<T> command) {
+        return execute(laneAllocator.getShardKey(userId), "player " + userId, command);
+    }
+
+    /**
+     * Runs the command in the queue of the session, the queue the commands of all its bowlers run in, and waits for
+     * its result.
+     *
+     * @param sessionId Long id of the session the command belongs to
+     * @param command the command
+     * @return result of the command
+     */
+    public <T> T executeForSession(Long sessionId, Supplier<T> command) {
+        return execute(laneAllocator.getSessionShardKey(sessionId), "session " + sessionId, command);
+    }
+
+    private <T> T execute(long shardKey, String owner, Supplier<T> command) {
+        int shardIndex = getShardIndex(shardKey);
+        int currentShard = CURRENT_SHARD.get();
+        if (currentShard == shardIndex) {
+            return command.get();
+        }
+        if (currentShard != NO_SHARD) {
+            throw new IllegalStateException("The command of the " + owner + " belongs to the queue " + shardIndex
+                + " and cannot be run from a command of the queue " + currentShard);
+        }
+        long submittedAt = System.nanoTime();
+        long[] statements = new long[1];
+        Future<T> future = shards[shardIndex].submit(() -> {
+            gameMetrics.recordCommandWait(System.nanoTime() - submittedAt);
+            long before = SqlStatementCounter.getThreadCount();
+            try {
+                return command.get();
+            } finally {
+                statements[0] = SqlStatementCounter.getThreadCount() - before;
+            }
+        });
+        try {
+            T result = future.get();
+            SqlStatementCounter.addToThreadCount(statements[0]);
+            return result;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the command of the " + owner, e);
+        } catch (ExecutionException e) {
+            SqlStatementCounter.addToThreadCount(statements[0]);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs the command without a result in the queue of the game.
+     *
+     * @param userId Long id of the player the command belongs to
+     * @param command the command
+     */
+    public void execute(Long userId, Runnable command) {
+        execute(userId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Queues the command in the queue of the game without waiting for it, also when called from a command. Used by
+     * background threads that change the live state of a game, the command runs after the commands already queued for
+     * the game. Failures are logged, commands queued after the executor was stopped are dropped.
+     *
+     * @param userId Long id of the player the command belongs to
+     * @param command the command
+     */
+    public void submit(Long userId, Runnable command) {
+        try {
+            shards[getShardIndex(laneAllocator.getShardKey(userId))].execute(() -> {
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    log.error("Failed to run the queued command of the player {}", userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Dropped the queued command of the player {}, the executor is stopped", userId);
+        }
+    }
+
+    private int getShardIndex(long shardKey) {
+        return Math.floorMod(Long.hashCode(shardKey), shards.length);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            if (!shard.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Game commands are still running on shutdown");
+            }
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.genios.bowling.service;
 
+import com.genios.bowling.configuration.CacheConfiguration;
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.event.RollSavedEvent;
 import com.genios.bowling.exception.GameAlreadyFinishedException;
 import com.genios.bowling.exception.GameNotFinishedException;
-import com.genios.bowling.exception.frame.FrameNotFoundException;
-import com.genios.bowling.exception.roll.InvalidRollException;
-import com.genios.bowling.exception.roll.RollAlreadyExistsException;
-import com.genios.bowling.exception.roll.RollNotFoundException;
-import com.genios.bowling.persistance.entity.Frame;
+import com.genios.bowling.metrics.GameMetrics;
 import com.genios.bowling.persistance.entity.Player;
-import com.genios.bowling.persistance.entity.Roll;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.record.request.Roll;
 import com.genios.bowling.record.response.IntermediateScore;
 import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.record.response.ScoreDelta;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.scoring.GameSnapshot;
+import com.genios.bowling.scoring.RollRules;
+import com.genios.bowling.scoring.ScoreCard;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,18 +36,26 @@ import java.util.Optional;
  * Counts the score of the player, saves frames and rolls, marks strike/spare or miss in the roll.
  */
 @Service
+@Validated
 public class GameService {
 
     private final PlayerService playerService;
-    private final FrameService frameService;
-    private final RollService rollService;
+    private final ScoreReadService scoreReadService;
+    private final GameWriter gameWriter;
+    private final ActiveGameRegistry activeGameRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameMetrics gameMetrics;
 
     @Autowired
-    public GameService(PlayerService playerService, FrameService frameService,
-        RollService rollService) {
-        this.rollService = rollService;
+    public GameService(PlayerService playerService, ScoreReadService scoreReadService,
+        GameWriter gameWriter, ActiveGameRegistry activeGameRegistry, ApplicationEventPublisher eventPublisher,
+        GameMetrics gameMetrics) {
         this.playerService = playerService;
-        this.frameService = frameService;
+        this.scoreReadService = scoreReadService;
+        this.gameWriter = gameWriter;
+        this.activeGameRegistry = activeGameRegistry;
+        this.eventPublisher = eventPublisher;
+        this.gameMetrics = gameMetrics;
     }
 
     /**
@@ -43,21 +66,8 @@ public class GameService {
      */
     @Transactional
     public boolean isGameOver(Long userId) {
-        Player player = playerService.getPlayer(userId);
-        if (player.isFinished()) {
-            return true;
-        }
-
-        List<Frame> frames = player.getFrames();
-        if (frames.isEmpty()) {
-            return false;
-        }
-
-        Optional<Frame> optionalLastFrame = frameService.getLastFrame(frames);
-        if (optionalLastFrame.isEmpty() || optionalLastFrame.get().getFrameNumber() != 10) {
-            return false;
-        }
-        return !frameService.areRollsLeftInFrame(optionalLastFrame.get());
+        Optional<ActiveGame> optionalGame = getActiveGame(userId);
+        return optionalGame.isEmpty() || optionalGame.get().getScoreCard().isGameOver();
     }
 
     /**
@@ -68,37 +78,13 @@ public class GameService {
      */
     @Transactional
     public NextFrameRecord getNextFrame(Long userId) {
-        Player player = playerService.getPlayer(userId);
-        if (player.isFinished() || isGameOver(userId)) {
+        Optional<ActiveGame> optionalGame = getActiveGame(userId);
+        if (optionalGame.isEmpty() || optionalGame.get().getScoreCard().isGameOver()) {
             throw new GameAlreadyFinishedException(
                 "No frames left for the current game for the user with id " + userId);
         }
-
-        List<Frame> frames = player.getFrames();
-        if (frames.isEmpty()) {
-            return new NextFrameRecord(userId, 1, 1);
-        }
-
-        Optional<Frame> optionalLastFrame = frameService.getLastFrame(frames);
-        if (optionalLastFrame.isEmpty()) {
-            throw new FrameNotFoundException("Last frame not found for the user with id " + userId);
-        }
-        Frame lastFrame = optionalLastFrame.get();
-        if (frameService.areRollsLeftInFrame(lastFrame)) {
-            Optional<Roll> optionalLastRoll = frameService.getLastRoll(lastFrame.getRolls());
-            if (optionalLastRoll.isEmpty()) {
-                throw new RollNotFoundException(
-                    "Last roll not found for the user with id " + userId + " within the frame number "
-                        + lastFrame.getFrameNumber());
-            }
-            Roll lastRoll = optionalLastRoll.get();
-            if (lastFrame.getFrameNumber() != 10 && lastRoll.getPins() == 10) {
-                return new NextFrameRecord(userId, lastFrame.getFrameNumber() + 1, 1);
-            }
-            return new NextFrameRecord(userId, lastFrame.getFrameNumber(), lastRoll.getRollNumber() + 1);
-        }
-
-        return new NextFrameRecord(userId, lastFrame.getFrameNumber() + 1, 1);
+        ScoreCard scoreCard = optionalGame.get().getScoreCard();
+        return new NextFrameRecord(userId, scoreCard.getNextFrameNumber(), scoreCard.getNextRollNumber());
     }
 
 
@@ -109,33 +95,78 @@ public class GameService {
      * @param pins Integer now many pins were knocked off during the roll
      */
     @Transactional
-    public void saveRollResult(NextFrameRecord nextFrameRecord, Integer pins) {
-        Frame frame = frameService.getOrCreateFrame(nextFrameRecord.userId(), nextFrameRecord.frameNumber(),
-            nextFrameRecord.rollNumber());
-        Optional<Roll> rollOptional = rollService.getRoll(frame.getId(), nextFrameRecord.rollNumber());
-        if (rollOptional.isPresent()) {
-            throw new RollAlreadyExistsException(
-                "For the frame " + nextFrameRecord.frameNumber() + " roll " + nextFrameRecord.rollNumber()
-                    + " was already saved.");
-        }
+    public void saveRollResult(@Valid NextFrameRecord nextFrameRecord, @Min(0) @Max(10) Integer pins) {
+        Long userId = nextFrameRecord.userId();
+        int frameNumber = nextFrameRecord.frameNumber();
+        int rollNumber = nextFrameRecord.rollNumber();
+        ActiveGame game = gameMetrics.time(GameMetrics.LOAD, () -> getActiveGame(userId))
+            .orElseThrow(() -> new GameAlreadyFinishedException(
+                "No frames left for the current game for the user with id " + userId));
+        ScoreCard scoreCard = game.getScoreCard();
+        gameMetrics.time(GameMetrics.CHECK, () -> checkRoll(scoreCard, userId, frameNumber, rollNumber, pins));
 
-        int availablePins = 10 - frame.getRolls().stream()
-            .filter(r -> !"X".equals(r.getStatus()))
-            .filter(r -> pins != 10)
-            .map(Roll::getPins)
-            .mapToInt(Integer::intValue)
-            .sum();
-        if (availablePins < pins) {
-            throw new InvalidRollException(
-                "Received the number of pins higher than the number of available pins on a frame");
-        }
-        rollService.createRoll(frame, nextFrameRecord.rollNumber(), pins);
-        frameService.updateFrameScore(frame);
+        activeGameRegistry.removeOnRollback(userId);
+        int finalizedBefore = scoreCard.getFinalizedFrames();
+        ScoreDelta delta = gameMetrics.time(GameMetrics.SCORE, () -> {
+            game.roll(frameNumber, rollNumber, pins);
+            return game.toScoreDelta(frameNumber, rollNumber, finalizedBefore);
+        });
+        gameMetrics.time(GameMetrics.WRITE, () -> gameWriter.saveRoll(game, frameNumber, rollNumber, finalizedBefore));
+        activeGameRegistry.publishAfterCommit(game);
+        gameMetrics.time(GameMetrics.PUBLISH, () -> eventPublisher.publishEvent(new RollSavedEvent(delta)));
+        gameMetrics.rollSaved(1);
 
-        frameService.updateFinishedFrames(frame.getUserId());
+        if (scoreCard.isComplete() && finalizedBefore < ScoreCard.FRAMES) {
+            finishGame(game);
+        }
     }
 
 
+    /**
+     * Saves the rolls buffered by a lane controller in one go. All the rolls are checked against the game before any
+     * of them is applied, so either all of them are saved or none. The frames they changed are written once.
+     *
+     * @param userId Long id of the {@link Player}
+     * @param rolls list of {@link Roll} in the order they were made
+     * @return {@link IntermediateScore} after the last of the rolls
+     */
+    @Transactional
+    public IntermediateScore saveRollResults(Long userId, @NotEmpty List<@Valid @NotNull Roll> rolls) {
+        ActiveGame game = gameMetrics.time(GameMetrics.LOAD, () -> getActiveGame(userId))
+            .orElseThrow(() -> new GameAlreadyFinishedException(
+                "No frames left for the current game for the user with id " + userId));
+        gameMetrics.time(GameMetrics.CHECK, () -> {
+            ScoreCard check = game.getScoreCard().copy();
+            for (Roll roll : rolls) {
+                checkRoll(check, userId, roll.frameNumber(), roll.rollNumber(), roll.pins());
+                check.roll(roll.frameNumber(), roll.rollNumber(), roll.pins());
+            }
+        });
+
+        activeGameRegistry.removeOnRollback(userId);
+        ScoreCard scoreCard = game.getScoreCard();
+        int finalizedBefore = scoreCard.getFinalizedFrames();
+        List<ScoreDelta> deltas = gameMetrics.time(GameMetrics.SCORE, () -> {
+            List<ScoreDelta> applied = new ArrayList<>(rolls.size());
+            for (Roll roll : rolls) {
+                int finalizedBeforeRoll = scoreCard.getFinalizedFrames();
+                game.roll(roll.frameNumber(), roll.rollNumber(), roll.pins());
+                applied.add(game.toScoreDelta(roll.frameNumber(), roll.rollNumber(), finalizedBeforeRoll));
+            }
+            return applied;
+        });
+        gameMetrics.time(GameMetrics.WRITE, () -> gameWriter.saveRolls(game, rolls, finalizedBefore));
+        activeGameRegistry.publishAfterCommit(game);
+        gameMetrics.time(GameMetrics.PUBLISH,
+            () -> deltas.forEach(delta -> eventPublisher.publishEvent(new RollSavedEvent(delta))));
+        gameMetrics.rollSaved(rolls.size());
+
+        if (scoreCard.isComplete() && finalizedBefore < ScoreCard.FRAMES) {
+            finishGame(game);
+        }
+        return game.toIntermediateScore();
+    }
+
     /**
      * Returns the final result of the game if it was finished.
      *
@@ -143,6 +174,7 @@ public class GameService {
      * @return int score
      */
     public int getFinalResult(long userId) {
+        gameWriter.flush();
         Player player = playerService.getPlayer(userId);
         if (player.isFinished()) {
             return player.getTotalScore();
@@ -152,14 +184,140 @@ public class GameService {
     }
 
     /**
-     * Converts player information into a record, suitable for the frontend.
+     * Converts player information into a record, suitable for the frontend. A game that is not in memory is read with
+     * one flat query, without loading the entities. Finished games never change, so they are cached when the cache is
+     * on.
      *
      * @param id Long userId
      * @return {@link IntermediateScore}
      */
     @Transactional
+    @Cacheable(cacheNames = CacheConfiguration.FINISHED_GAMES, unless = "!#result.isGameOver()")
     public IntermediateScore getIntermediateScore(Long id) {
-        Player player = playerService.getPlayer(id);
-        return player.getIntermediateScore();
+        Optional<ActiveGame> optionalGame = activeGameRegistry.find(id);
+        if (optionalGame.isPresent()) {
+            return optionalGame.get().toIntermediateScore();
+        }
+        gameWriter.flush();
+        List<ScoreRow> rows = scoreReadService.getScoreRows(id);
+        if (rows.get(0).isFinished()) {
+            return scoreReadService.toIntermediateScore(rows);
+        }
+        return activeGameRegistry.register(scoreReadService.toActiveGame(rows)).toIntermediateScore();
+    }
+
+    /**
+     * Returns the number of the next frame and roll as of the last committed command of the game. Unlike
+     * {@link #getNextFrame(Long)} it does not have to run in the queue of the game.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return {@link NextFrameRecord}
+     */
+    public NextFrameRecord getPublishedNextFrame(Long userId) {
+        GameSnapshot snapshot = getSnapshot(userId);
+        if (snapshot.isGameOver()) {
+            throw new GameAlreadyFinishedException(
+                "No frames left for the current game for the user with id " + userId);
+        }
+        return new NextFrameRecord(userId, snapshot.nextFrameNumber(), snapshot.nextRollNumber());
+    }
+
+    /**
+     * Checks if the game is over as of its last committed command, without running in the queue of the game.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return true if there are no frames and rolls available.
+     */
+    public boolean isPublishedGameOver(Long userId) {
+        return getSnapshot(userId).isGameOver();
+    }
+
+    /**
+     * Returns the score of the game as of its last committed command, without running in the queue of the game.
+     * Finished games never change, so they are cached when the cache is on.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return {@link IntermediateScore}
+     */
+    @Cacheable(cacheNames = CacheConfiguration.FINISHED_GAMES, unless = "!#result.isGameOver()")
+    public IntermediateScore getPublishedScore(Long userId) {
+        return getSnapshot(userId).score();
+    }
+
+    /**
+     * Returns the current state of the game, loading it into the registry on the first request like the commands do.
+     * Used by the commands that need the state of several games.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return {@link GameSnapshot}
+     */
+    @Transactional
+    public GameSnapshot getCurrentSnapshot(Long userId) {
+        Optional<ActiveGame> optionalGame = activeGameRegistry.find(userId);
+        if (optionalGame.isPresent()) {
+            return optionalGame.get().toSnapshot();
+        }
+        gameWriter.flush();
+        List<ScoreRow> rows = scoreReadService.getScoreRows(userId);
+        if (rows.get(0).isFinished()) {
+            return GameSnapshot.ofFinished(scoreReadService.toIntermediateScore(rows));
+        }
+        return activeGameRegistry.register(scoreReadService.toActiveGame(rows)).toSnapshot();
+    }
+
+    /**
+     * Returns the state of the game the readers see. A game in memory is read from the snapshot it published after
+     * its last command. Any other game is read from the database, but not registered: only the queue of the game
+     * puts it in memory, so a reader never registers a state older than what a command has already seen.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return {@link GameSnapshot}
+     */
+    public GameSnapshot getSnapshot(Long userId) {
+        GameSnapshot snapshot = activeGameRegistry.find(userId).map(ActiveGame::getSnapshot).orElse(null);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        gameWriter.flush();
+        List<ScoreRow> rows = scoreReadService.getScoreRows(userId);
+        if (rows.get(0).isFinished()) {
+            return GameSnapshot.ofFinished(scoreReadService.toIntermediateScore(rows));
+        }
+        return scoreReadService.toActiveGame(rows).toSnapshot();
+    }
+
+    private void finishGame(ActiveGame game) {
+        int totalScore = game.getScoreCard().getTotalScore();
+        gameMetrics.time(GameMetrics.FINISH, () -> gameWriter.finishGame(game));
+        eventPublisher.publishEvent(new GameFinishedEvent(game.getUserId(), game.getName(), totalScore));
+    }
+
+    private void checkRoll(ScoreCard scoreCard, Long userId, int frameNumber, int rollNumber, int pins) {
+        try {
+            RollRules.check(scoreCard, userId, frameNumber, rollNumber, pins);
+        } catch (RuntimeException e) {
+            gameMetrics.rollRejected(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the live state of the game, loading it into the registry on the first request. Finished games are not
+     * kept in memory. Writes that are not saved yet are flushed before the game is read from the database.
+     *
+     * @param userId Long id of the {@link Player}
+     * @return {@link ActiveGame} or empty if the game is finished
+     */
+    private Optional<ActiveGame> getActiveGame(Long userId) {
+        Optional<ActiveGame> optionalGame = activeGameRegistry.find(userId);
+        if (optionalGame.isPresent()) {
+            return optionalGame;
+        }
+        gameWriter.flush();
+        List<ScoreRow> rows = scoreReadService.getScoreRows(userId);
+        if (rows.get(0).isFinished()) {
+            return Optional.empty();
+        }
+        return Optional.of(activeGameRegistry.register(scoreReadService.toActiveGame(rows)));
     }
 }
@@ -0,0 +1,45 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.scoring.ActiveGame;
+import java.util.List;
+
+/**
+ * Persists the changes made to an {@link ActiveGame}.
+ */
+public interface GameWriter {
+
+    /**
+     * Saves the roll that was just applied to the game together with the frames it changed: the frame of the roll
+     * itself and all the frames that were finalized with it.
+     *
+     * @param game {@link ActiveGame} with the roll applied
+     * @param frameNumber int frame of the roll
+     * @param rollNumber int number of the roll within the frame
+     * @param finalizedBefore int number of finalized frames before the roll
+     */
+    void saveRoll(ActiveGame game, int frameNumber, int rollNumber, int finalizedBefore);
+
+    /**
+     * Saves several rolls that were just applied to the game one after another. Every frame they changed is written
+     * once with its score after the last of the rolls.
+     *
+     * @param game {@link ActiveGame} with the rolls applied
+     * @param rolls list of {@link Roll} in the order they were applied
+     * @param finalizedBefore int number of finalized frames before the first of the rolls
+     */
+    void saveRolls(ActiveGame game, List<Roll> rolls, int finalizedBefore);
+
+    /**
+     * Saves the final score of the game and marks it as finished.
+     *
+     * @param game {@link ActiveGame} with all the frames finalized
+     */
+    void finishGame(ActiveGame game);
+
+    /**
+     * Makes sure everything accepted so far is in the database, called before a game is loaded from it.
+     */
+    default void flush() {
+    }
+}
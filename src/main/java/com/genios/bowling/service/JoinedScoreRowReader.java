@@ -0,0 +1,34 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Default {@link ScoreRowReader}, joins the player with the rows of its frames and rolls.
+ */
+@Component
+@ConditionalOnProperty(name = "bowling.storage", havingValue = "rows", matchIfMissing = true)
+public class JoinedScoreRowReader implements ScoreRowReader {
+
+    private final PlayerRepository playerRepository;
+
+    @Autowired
+    public JoinedScoreRowReader(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @Override
+    public List<ScoreRow> findScoreRows(Long userId) {
+        return playerRepository.findScoreRows(userId);
+    }
+
+    @Override
+    public Stream<ScoreRow> streamFinishedScoreRows() {
+        return playerRepository.streamFinishedScoreRows();
+    }
+}
@@ -0,0 +1,247 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.exception.NoFreeLinesException;
+import com.genios.bowling.persistance.projection.LaneProjection;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps track of the occupied lanes without counting the unfinished games in the database. Every lane is a slot that
+ * holds the id of the player, a lane is taken with compare-and-set, so two requests can never get the same lane and
+ * there are never more games than lanes.
+ * <p>
+ * A lane of a team session holds the key of the session instead, a negative number, and the bowlers of the session are
+ * mapped to it.
+ * <p>
+ * The lanes of the unfinished games are read from the database once the application is started, before it reports
+ * that it accepts traffic, so the requests never wait for it.
+ */
+@Component
+@Slf4j
+public class LaneAllocator {
+
+    private static final long FREE = 0;
+    private static final long RESERVED = -1;
+
+    private final AtomicLongArray lanes;
+    private final Map<Long, Long> sessionBowlers = new ConcurrentHashMap<>();
+    private final PlayerRepository playerRepository;
+
+    @Autowired
+    public LaneAllocator(BowlingConfiguration configuration, PlayerRepository playerRepository) {
+        this.lanes = new AtomicLongArray(Math.max(configuration.getLines(), 0));
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Reserves the first free lane, the lane has to be assigned to the player once he is saved.
+     *
+     * @return int number of the lane, starting with 1
+     */
+    public int reserve() {
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) == FREE && lanes.compareAndSet(i, FREE, RESERVED)) {
+                return i + 1;
+            }
+        }
+        throw new NoFreeLinesException("No free lines are left, please try again later");
+    }
+
+    /**
+     * Assigns the reserved lane to the player. The lane is freed again if the current transaction is rolled back.
+     *
+     * @param lane int number of the reserved lane
+     * @param userId Long id of the player
+     */
+    public void assign(int lane, Long userId) {
+        lanes.set(lane - 1, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Assigns the reserved lane to the session and puts its bowlers on it. The lane is freed again if the current
+     * transaction is rolled back.
+     *
+     * @param lane int number of the reserved lane
+     * @param sessionId Long id of the session
+     * @param userIds list of ids of the bowlers of the session
+     */
+    public void assignSession(int lane, Long sessionId, List<Long> userIds) {
+        long sessionKey = sessionKey(sessionId);
+        userIds.forEach(userId -> sessionBowlers.put(userId, sessionKey));
+        assign(lane, sessionKey);
+    }
+
+    /**
+     * Frees the reserved lane that was never assigned.
+     *
+     * @param lane int number of the lane
+     */
+    public void cancel(int lane) {
+        lanes.compareAndSet(lane - 1, RESERVED, FREE);
+    }
+
+    /**
+     * Frees the lane of the player once the current transaction is committed, used when the game is finished.
+     *
+     * @param userId Long id of the player
+     */
+    public void releaseAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(userId);
+            }
+        });
+    }
+
+    /**
+     * Frees the lane of the session once the current transaction is committed, used when the last game of the team is
+     * finished.
+     *
+     * @param sessionId Long id of the session
+     */
+    public void releaseSessionAfterCommit(Long sessionId) {
+        long sessionKey = sessionKey(sessionId);
+        releaseAfterCommit(sessionKey);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sessionBowlers.values().removeIf(key -> key == sessionKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sessionBowlers.values().removeIf(key -> key == sessionKey);
+            }
+        });
+    }
+
+    /**
+     * Returns the lane of the player or null if the player has no lane.
+     */
+    public Integer getLane(Long userId) {
+        long occupant = getShardKey(userId);
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) == occupant) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key the commands of the game are queued by: the key of the session for a bowler of a team, so the
+     * games of a team never run in parallel, otherwise the id of the player.
+     *
+     * @param userId Long id of the player
+     * @return long key
+     */
+    public long getShardKey(Long userId) {
+        return sessionBowlers.getOrDefault(userId, userId);
+    }
+
+    /**
+     * Returns the key the commands of the session are queued by, the key {@link #getShardKey(Long)} returns for the
+     * bowlers of the session.
+     *
+     * @param sessionId Long id of the session
+     * @return long key
+     */
+    public long getSessionShardKey(Long sessionId) {
+        return sessionKey(sessionId);
+    }
+
+    public int getFreeLanes() {
+        int free = 0;
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) == FREE) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    private void release(long occupant) {
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) == occupant && lanes.compareAndSet(i, occupant, FREE)) {
+                return;
+            }
+        }
+    }
+
+    private static long sessionKey(Long sessionId) {
+        return -sessionId - 1;
+    }
+
+    /**
+     * Puts the unfinished games from the database on their lanes, the games of a session share the lane. Games without
+     * a lane, or with a lane that is taken or does not exist anymore, get the first free lane.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        Set<Long> withoutLane = new LinkedHashSet<>();
+        for (LaneProjection game : playerRepository.findUnfinishedLanes()) {
+            long occupant = game.userId();
+            if (game.sessionId() != null) {
+                occupant = sessionKey(game.sessionId());
+                sessionBowlers.put(game.userId(), occupant);
+            }
+            Integer lane = game.lane();
+            boolean isPlaced = lane != null && lane >= 1 && lane <= lanes.length()
+                && (lanes.get(lane - 1) == occupant || lanes.compareAndSet(lane - 1, FREE, occupant));
+            if (!isPlaced) {
+                withoutLane.add(occupant);
+            }
+        }
+        for (Long occupant : withoutLane) {
+            if (getLaneOf(occupant) == null && !place(occupant)) {
+                log.warn("More unfinished games than lines, the player or session {} has no lane", occupant);
+            }
+        }
+        log.info("Put the unfinished games on the lanes, {} lanes are free", getFreeLanes());
+    }
+
+    private boolean place(long occupant) {
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.compareAndSet(i, FREE, occupant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Integer getLaneOf(long occupant) {
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) == occupant) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+}
@@ -1,16 +1,22 @@
 package com.genios.bowling.service;
 
-import com.genios.bowling.configuration.BowlingConfiguration;
-import com.genios.bowling.exception.NoFreeLinesException;
 import com.genios.bowling.exception.player.PlayerNotFoundException;
 import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.projection.PlayerScoreProjection;
 import com.genios.bowling.persistance.repository.PlayerRepository;
 import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.scoring.Leaderboard;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.scoring.WindowedLeaderboard;
+import com.genios.bowling.service.statistics.BowlerService;
 import jakarta.transaction.Transactional;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import java.util.Comparator;
+import org.springframework.validation.annotation.Validated;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,33 +24,69 @@ import java.util.Optional;
  * Handles operations on a player.
  */
 @Service
+@Validated
 public class PlayerService {
 
-    private final int maxLines;
-
     private final PlayerRepository playerRepository;
+    private final Leaderboard leaderboard;
+    private final WindowedLeaderboard windowedLeaderboard;
+    private final LaneAllocator laneAllocator;
+    private final BowlerService bowlerService;
 
     @Autowired
-    public PlayerService(BowlingConfiguration configuration, PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository, Leaderboard leaderboard,
+        WindowedLeaderboard windowedLeaderboard, LaneAllocator laneAllocator, BowlerService bowlerService) {
         this.playerRepository = playerRepository;
-        this.maxLines = configuration.getLines();
+        this.leaderboard = leaderboard;
+        this.windowedLeaderboard = windowedLeaderboard;
+        this.laneAllocator = laneAllocator;
+        this.bowlerService = bowlerService;
     }
 
     /**
-     * Creates a player if there are free lines available
+     * Creates a player if there are free lines available and puts him on the first free lane. The game is linked to
+     * the bowler whose handle is the name.
      *
      * @param name String name of the player
+     * @return Long id of the created player
      */
-    @Transactional
     public Long createPlayer(String name) {
-        if (isFreeLines()) {
-            Player player = new Player(name);
-            playerRepository.save(player);
+        return createPlayer(name, null);
+    }
 
-            return player.getId();
-        } else {
-            throw new NoFreeLinesException("No free lines are left, please try again later");
+    /**
+     * Creates a player if there are free lines available and puts him on the first free lane. The game is linked to
+     * the bowler with the handle, or with the name as the handle if there is none. The player is saved in one
+     * statement, so no transaction is held while a new bowler is created in its own one.
+     *
+     * @param name String name of the player
+     * @param handle String unique handle of the bowler, null to use the name
+     * @return Long id of the created player
+     */
+    public Long createPlayer(String name, String handle) {
+        int lane = laneAllocator.reserve();
+        Player player = new Player(name);
+        player.setLane(lane);
+        player.setStartedAt(Instant.now());
+        try {
+            player.setBowlerId(bowlerService.getOrCreateBowler(handle, name));
+            playerRepository.save(player);
+        } catch (RuntimeException e) {
+            laneAllocator.cancel(lane);
+            throw e;
         }
+        laneAllocator.assign(lane, player.getId());
+        return player.getId();
+    }
+
+    /**
+     * Returns the lane of the unfinished game of the player or null if the game is finished.
+     *
+     * @param userId Long player id
+     * @return Integer number of the lane
+     */
+    public Integer getLane(Long userId) {
+        return laneAllocator.getLane(userId);
     }
 
     /**
@@ -60,27 +102,64 @@ public class PlayerService {
             Player player = optionalPlayer.get();
             player.setTotalScore(score);
             player.setFinished(true);
+            player.setFinishedAt(Instant.now());
             playerRepository.save(player);
+            leaderboard.addAfterCommit(id, player.getName(), score);
+            windowedLeaderboard.addAfterCommit(id, player.getName(), score, player.getFinishedAt());
+            laneAllocator.releaseAfterCommit(id);
         } else {
             throw new PlayerNotFoundException("No player with the id " + id + " was found");
         }
     }
 
     /**
-     * Returns a sorted list of names and the total score. Not limited.
+     * Returns a sorted list of names and the total score of all the finished games. It is read from the
+     * {@link Leaderboard} unless the board is full, then the games beyond its capacity are only in the database and the
+     * list is read from there.
      *
      * @return collection of the {@link PlayerScore}
      */
     public List<PlayerScore> getTopPlayerScores() {
-        Player playerExample = new Player();
-        playerExample.setFinished(true);
+        if (!leaderboard.isFull()) {
+            return leaderboard.getAll();
+        }
+        return toPlayerScores(playerRepository.findTopScores(Pageable.unpaged()));
+    }
 
-        Example<Player> example = Example.of(playerExample);
-        List<Player> players = playerRepository.findAll(example);
-        return players.stream()
-            .map(p -> new PlayerScore(p.getName(), p.getTotalScore()))
-            .sorted(Comparator.comparingLong(PlayerScore::totalScore).reversed())
-            .toList();
+    /**
+     * Returns a page of the sorted list of names and the total score. Pages within the capacity of the
+     * {@link Leaderboard} are read from it, the ones beyond it from the database.
+     *
+     * @param page int number of the page, starting with 0
+     * @param size int max number of scores on the page
+     * @return collection of the {@link PlayerScore}
+     */
+    public List<PlayerScore> getTopPlayerScores(@Min(0) int page, @Min(1) int size) {
+        if ((long) (page + 1) * size <= leaderboard.getCapacity() || !leaderboard.isFull()) {
+            return leaderboard.getPage(page, size);
+        }
+        return toPlayerScores(playerRepository.findTopScores(PageRequest.of(page, size)));
+    }
+
+    /**
+     * Returns a page of the sorted list of names and the total score of the games finished within the window. Pages
+     * within the capacity of the {@link WindowedLeaderboard} are read from it, the ones beyond it from the database
+     * once a day of the window is full.
+     *
+     * @param window {@link ScoreWindow} the games were finished in
+     * @param page int number of the page, starting with 0
+     * @param size int max number of scores on the page
+     * @return collection of the {@link PlayerScore}
+     */
+    public List<PlayerScore> getTopPlayerScores(ScoreWindow window, @Min(0) int page, @Min(1) int size) {
+        if (window == ScoreWindow.ALL_TIME) {
+            return getTopPlayerScores(page, size);
+        }
+        if ((long) (page + 1) * size <= windowedLeaderboard.getCapacity() || !windowedLeaderboard.isFull(window)) {
+            return windowedLeaderboard.getPage(window, page, size);
+        }
+        return toPlayerScores(playerRepository.findTopScoresFinishedSince(windowedLeaderboard.getStart(window),
+            PageRequest.of(page, size)));
     }
 
     /**
@@ -107,11 +186,16 @@ public class PlayerService {
     public void saveFinalScore(Player player, int lastFrameScore) {
         player.setFinished(true);
         player.setTotalScore(lastFrameScore);
+        player.setFinishedAt(Instant.now());
         playerRepository.saveAndFlush(player);
+        leaderboard.addAfterCommit(player.getId(), player.getName(), lastFrameScore);
+        windowedLeaderboard.addAfterCommit(player.getId(), player.getName(), lastFrameScore, player.getFinishedAt());
+        laneAllocator.releaseAfterCommit(player.getId());
     }
 
-    private boolean isFreeLines() {
-        int ongoingGames = playerRepository.countByIsFinishedFalse();
-        return ongoingGames < maxLines;
+    private static List<PlayerScore> toPlayerScores(List<PlayerScoreProjection> scores) {
+        return scores.stream()
+            .map(score -> new PlayerScore(score.name(), score.totalScore()))
+            .toList();
     }
 }
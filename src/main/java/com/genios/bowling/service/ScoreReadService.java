@@ -0,0 +1,88 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.exception.player.PlayerNotFoundException;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.record.response.FrameScore;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.RollScore;
+import com.genios.bowling.scoring.ActiveGame;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the game of the player as flat rows ordered by the frame and roll numbers, no entities are loaded. The rows
+ * come from the {@link ScoreRowReader} of the configured storage.
+ */
+@Service
+public class ScoreReadService {
+
+    private final ScoreRowReader scoreRowReader;
+
+    @Autowired
+    public ScoreReadService(ScoreRowReader scoreRowReader) {
+        this.scoreRowReader = scoreRowReader;
+    }
+
+    /**
+     * Returns the rows of the game, there is always at least one for an existing player.
+     *
+     * @param userId Long id of the player
+     * @return list of {@link ScoreRow} ordered by the frame and roll numbers
+     */
+    List<ScoreRow> getScoreRows(Long userId) {
+        List<ScoreRow> rows = scoreRowReader.findScoreRows(userId);
+        if (rows.isEmpty()) {
+            throw new PlayerNotFoundException("No player with the id " + userId + " was found");
+        }
+        return rows;
+    }
+
+    /**
+     * Converts the rows of the game into a record, suitable for the frontend.
+     *
+     * @param rows list of {@link ScoreRow} of one player ordered by the frame and roll numbers
+     * @return {@link IntermediateScore}
+     */
+    public IntermediateScore toIntermediateScore(List<ScoreRow> rows) {
+        ScoreRow player = rows.get(0);
+        List<FrameScore> frames = new ArrayList<>();
+        int i = 0;
+        while (i < rows.size() && rows.get(i).frameId() != null) {
+            ScoreRow frame = rows.get(i);
+            List<RollScore> rolls = new ArrayList<>();
+            for (; i < rows.size() && frame.frameId().equals(rows.get(i).frameId()); i++) {
+                ScoreRow roll = rows.get(i);
+                if (roll.rollId() != null) {
+                    rolls.add(new RollScore(roll.rollId(), roll.rollNumber(), roll.pins(), roll.status().getState()));
+                }
+            }
+            boolean isFinalScore = Boolean.TRUE.equals(frame.isFinalScore());
+            frames.add(new FrameScore(frame.frameId(), frame.frameNumber(), isFinalScore,
+                isFinalScore ? frame.frameScore() : null, rolls));
+        }
+        return new IntermediateScore(player.userId(), player.name(), player.isFinished(), player.totalScore(), frames);
+    }
+
+    /**
+     * Builds the {@link ActiveGame} from the rows of the game.
+     *
+     * @param rows list of {@link ScoreRow} of one player
+     * @return {@link ActiveGame}
+     */
+    public ActiveGame toActiveGame(List<ScoreRow> rows) {
+        ScoreRow player = rows.get(0);
+        ActiveGame game = new ActiveGame(player.userId(), player.name(), player.totalScore());
+        for (ScoreRow row : rows) {
+            if (row.frameId() != null) {
+                game.setFrameId(row.frameNumber(), row.frameId());
+            }
+            if (row.rollId() != null) {
+                game.setRoll(row.frameNumber(), row.rollNumber(), row.pins(), row.rollId(),
+                    row.status());
+            }
+        }
+        return game;
+    }
+}
@@ -0,0 +1,27 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.persistance.projection.ScoreRow;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads the saved games as {@link ScoreRow}s, whatever the storage of the games is.
+ */
+public interface ScoreRowReader {
+
+    /**
+     * Returns the rows of the game ordered by the frame and roll numbers.
+     *
+     * @param userId Long id of the player
+     * @return list of {@link ScoreRow}, empty if there is no such player
+     */
+    List<ScoreRow> findScoreRows(Long userId);
+
+    /**
+     * Streams the rows of all finished games ordered by the player, frame and roll numbers. The stream must be
+     * consumed within a transaction and closed.
+     *
+     * @return stream of {@link ScoreRow}
+     */
+    Stream<ScoreRow> streamFinishedScoreRows();
+}
@@ -0,0 +1,296 @@
+package com.genios.bowling.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.configuration.VirtualThreadSupport;
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.event.RollSavedEvent;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.record.response.ScoreDelta;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes score changes to the browsers as server-sent events, so the pages do not have to poll the API.
+ * <p>
+ * A subscriber of a game first gets a {@code score} event with the whole {@link IntermediateScore}, then a
+ * {@code roll} event with a {@link ScoreDelta} for every saved roll. A subscriber of the score board gets a
+ * {@code scores} event with the current list, then a {@code score} event for every finished game. Every event is
+ * serialized once after the transaction that saved the roll is committed.
+ * <p>
+ * Events are published on the thread of the game commands, so they are only put into a bounded queue of every
+ * subscriber and sent by a separate sender thread. A slow or stalled connection never holds up the rolls, a subscriber
+ * whose queue is full is dropped and has to subscribe again.
+ */
+@Service
+@Slf4j
+public class ScoreStreamService {
+
+    static final String SCORE_EVENT = "score";
+    static final String ROLL_EVENT = "roll";
+    static final String SCORES_EVENT = "scores";
+
+    private final long timeout;
+    private final int queueSize;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+
+    private final Map<Long, List<Subscriber>> gameSubscribers = new ConcurrentHashMap<>();
+    private final List<Subscriber> scoreBoardSubscribers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public ScoreStreamService(BowlingConfiguration configuration, ObjectMapper objectMapper) {
+        this.timeout = configuration.getScoreStream().getTimeout().toMillis();
+        this.queueSize = Math.max(configuration.getScoreStream().getQueueSize(), 1);
+        this.objectMapper = objectMapper;
+        if (configuration.getThreads().isVirtual()) {
+            this.sender = VirtualThreadSupport.newPerTaskExecutor();
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.sender = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "score-stream-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Subscribes to the changes of the game. The subscriber is registered before the current score is read, so no
+     * roll saved in between is lost. Stream of a finished game is completed right after the current score.
+     *
+     * @param userId Long id of the player
+     * @param currentScore supplier of the current score of the game
+     * @return {@link SseEmitter}
+     */
+    public SseEmitter subscribeToGame(Long userId, Supplier<IntermediateScore> currentScore) {
+        return subscribeToGame(userId, currentScore, new SseEmitter(timeout));
+    }
+
+    SseEmitter subscribeToGame(Long userId, Supplier<IntermediateScore> currentScore, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        gameSubscribers.compute(userId, (id, subscribers) -> {
+            List<Subscriber> result = subscribers == null ? new CopyOnWriteArrayList<>() : subscribers;
+            result.add(subscriber);
+            return result;
+        });
+        Runnable unsubscribe = () -> removeGameSubscriber(userId, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        IntermediateScore score;
+        try {
+            score = currentScore.get();
+        } catch (RuntimeException e) {
+            unsubscribe.run();
+            throw e;
+        }
+        boolean isQueued = subscriber.offer(SCORE_EVENT, toJson(score));
+        if (!isQueued || score.isGameOver()) {
+            unsubscribe.run();
+            subscriber.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * Subscribes to the games finished from now on.
+     *
+     * @param currentScores supplier of the current score board
+     * @return {@link SseEmitter}
+     */
+    public SseEmitter subscribeToScoreBoard(Supplier<List<PlayerScore>> currentScores) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        scoreBoardSubscribers.add(subscriber);
+        Runnable unsubscribe = () -> scoreBoardSubscribers.remove(subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        if (!subscriber.offer(SCORES_EVENT, toJson(currentScores.get()))) {
+            unsubscribe.run();
+        }
+        return emitter;
+    }
+
+    public int getGameSubscriberCount(Long userId) {
+        List<Subscriber> subscribers = gameSubscribers.get(userId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    public int getScoreBoardSubscriberCount() {
+        return scoreBoardSubscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRollSaved(RollSavedEvent event) {
+        ScoreDelta delta = event.delta();
+        List<Subscriber> subscribers = gameSubscribers.get(delta.userId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        String json = toJson(delta);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(ROLL_EVENT, json)) {
+                removeGameSubscriber(delta.userId(), subscriber);
+            }
+        }
+        if (delta.isGameOver()) {
+            subscribers.forEach(Subscriber::complete);
+            gameSubscribers.remove(delta.userId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameFinished(GameFinishedEvent event) {
+        if (scoreBoardSubscribers.isEmpty()) {
+            return;
+        }
+        String json = toJson(new PlayerScore(event.name(), event.totalScore()));
+        for (Subscriber subscriber : scoreBoardSubscribers) {
+            if (!subscriber.offer(SCORE_EVENT, json)) {
+                scoreBoardSubscribers.remove(subscriber);
+            }
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+    }
+
+    private void removeGameSubscriber(Long userId, Subscriber subscriber) {
+        gameSubscribers.computeIfPresent(userId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Event waiting in the queue of a subscriber, {@link #COMPLETE} completes the stream once the events before it are
+     * sent.
+     */
+    private record Message(String name, String json) {
+
+        private static final Message COMPLETE = new Message(null, null);
+    }
+
+    /**
+     * Connection of one browser with its queue of events. At most one sender thread drains the queue at a time, so the
+     * events are sent in the order they were queued.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(queueSize + 1);
+        private final AtomicBoolean isScheduled = new AtomicBoolean();
+        private volatile boolean isClosed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues the event without waiting. A subscriber whose queue is full is completed with an error on the sender,
+         * the emitter may be locked by a send that is stuck.
+         *
+         * @return true if the event was queued
+         */
+        private boolean offer(String name, String json) {
+            if (isClosed) {
+                return false;
+            }
+            if (queue.size() >= queueSize || !queue.offer(new Message(name, json))) {
+                close(new IllegalStateException("The subscriber of the score stream fell behind by " + queueSize
+                    + " events"));
+                return false;
+            }
+            schedule();
+            return true;
+        }
+
+        private void complete() {
+            if (!isClosed && queue.offer(Message.COMPLETE)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (isScheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    isScheduled.set(false);
+                    close(e);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!isClosed && (message = queue.poll()) != null) {
+                    if (message == Message.COMPLETE) {
+                        isClosed = true;
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().name(message.name()).data(message.json(),
+                        MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            } finally {
+                isScheduled.set(false);
+            }
+            if (!isClosed && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close(Exception e) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            queue.clear();
+            log.debug("Dropping the subscriber of the score stream: {}", e.getMessage());
+            try {
+                sender.execute(() -> emitter.completeWithError(e));
+            } catch (RejectedExecutionException rejected) {
+                log.debug("Could not complete the subscriber of the score stream, the sender is stopped");
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.event.RollSavedEvent;
+import com.genios.bowling.scoring.Leaderboard;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.scoring.WindowedLeaderboard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versions of the scores the displays poll, sent as strong entity tags so an unchanged score is answered with 304 Not
+ * Modified without reading the game or the board. The version of a game is bumped once a roll of it is committed and
+ * dropped once the game is finished: a finished game never changes, so it has a fixed tag. The versions of the boards
+ * are counted by the boards themselves. A version is read before the response is built, so a response is never tagged
+ * with a newer version than its content.
+ * <p>
+ * The versions are kept in memory and start over with the application, so every tag contains the time the
+ * application was started and a tag of an earlier run never matches. The boards of the last days are tagged with the
+ * day as well, they change when the day rolls over.
+ */
+@Component
+public class ScoreVersions {
+
+    private final String startedAt = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<Long, Long> gameVersions = new ConcurrentHashMap<>();
+
+    private final Leaderboard leaderboard;
+    private final WindowedLeaderboard windowedLeaderboard;
+    private final ZoneId zone;
+
+    @Autowired
+    public ScoreVersions(Leaderboard leaderboard, WindowedLeaderboard windowedLeaderboard,
+        BowlingConfiguration configuration) {
+        this.leaderboard = leaderboard;
+        this.windowedLeaderboard = windowedLeaderboard;
+        this.zone = configuration.getLeaderboard().getZone();
+    }
+
+    /**
+     * Returns the entity tag to check a request for the score of the game against. A client that already has the tag
+     * of the finished game is checked against it, otherwise against the tag of the current version.
+     *
+     * @param userId Long id of the player
+     * @param ifNoneMatch String value of the If-None-Match header, null if there is none
+     * @return String quoted entity tag
+     */
+    public String getGameTag(Long userId, String ifNoneMatch) {
+        String finishedGameTag = getFinishedGameTag(userId);
+        if (ifNoneMatch != null && ifNoneMatch.contains(finishedGameTag)) {
+            return finishedGameTag;
+        }
+        return "\"" + startedAt + "-game-" + userId + "-" + gameVersions.getOrDefault(userId, 0L) + "\"";
+    }
+
+    /**
+     * Returns the fixed entity tag of the finished game.
+     *
+     * @param userId Long id of the player
+     * @return String quoted entity tag
+     */
+    public String getFinishedGameTag(Long userId) {
+        return "\"" + startedAt + "-game-" + userId + "-final\"";
+    }
+
+    /**
+     * Returns the entity tag of the current board of the window.
+     *
+     * @param window {@link ScoreWindow} of the board
+     * @return String quoted entity tag
+     */
+    public String getBoardTag(ScoreWindow window) {
+        if (window == ScoreWindow.ALL_TIME) {
+            return "\"" + startedAt + "-board-" + leaderboard.getVersion() + "\"";
+        }
+        return "\"" + startedAt + "-" + window.name().toLowerCase() + "-" + LocalDate.now(zone).toEpochDay() + "-"
+            + windowedLeaderboard.getVersion() + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRollSaved(RollSavedEvent event) {
+        gameVersions.merge(event.delta().userId(), 1L, Long::sum);
+    }
+
+    /**
+     * Drops the version of the finished game, it is tagged with {@link #getFinishedGameTag(Long)} from now on.
+     *
+     * @param event {@link GameFinishedEvent}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameFinished(GameFinishedEvent event) {
+        gameVersions.remove(event.userId());
+    }
+}
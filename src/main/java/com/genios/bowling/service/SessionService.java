@@ -0,0 +1,216 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.exception.session.InvalidRotationException;
+import com.genios.bowling.exception.session.SessionNotFoundException;
+import com.genios.bowling.persistance.entity.LaneSession;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.LaneSessionRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.request.PlayerRolls;
+import com.genios.bowling.record.response.FrameScore;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.SessionCreated;
+import com.genios.bowling.record.response.SessionScore;
+import com.genios.bowling.scoring.GameSnapshot;
+import com.genios.bowling.service.statistics.BowlerService;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handles the sessions of teams sharing one lane. Every bowler of the team plays an own game, the team takes one lane
+ * and the bowlers take turns in the order they were given. The rolls of a whole rotation are saved in one transaction.
+ */
+@Service
+@Validated
+public class SessionService {
+
+    private final LaneSessionRepository laneSessionRepository;
+    private final PlayerRepository playerRepository;
+    private final GameService gameService;
+    private final LaneAllocator laneAllocator;
+    private final BowlerService bowlerService;
+    private final SessionWriter sessionWriter;
+
+    @Autowired
+    public SessionService(LaneSessionRepository laneSessionRepository, PlayerRepository playerRepository,
+        GameService gameService, LaneAllocator laneAllocator, BowlerService bowlerService,
+        SessionWriter sessionWriter) {
+        this.laneSessionRepository = laneSessionRepository;
+        this.playerRepository = playerRepository;
+        this.gameService = gameService;
+        this.laneAllocator = laneAllocator;
+        this.bowlerService = bowlerService;
+        this.sessionWriter = sessionWriter;
+    }
+
+    /**
+     * Creates a session and a player for every bowler of the team, all of them on the first free lane.
+     *
+     * @param name String name of the team
+     * @param bowlers list of names of the bowlers in the order of their turns
+     * @return {@link SessionCreated}
+     */
+    public SessionCreated createSession(String name, List<String> bowlers) {
+        List<Long> bowlerIds = bowlers.stream()
+            .map(bowler -> bowlerService.getOrCreateBowler(null, bowler))
+            .toList();
+        return sessionWriter.createSession(name, bowlers, bowlerIds);
+    }
+
+    /**
+     * Returns the ids of the bowlers of the session in the order of their turns.
+     *
+     * @param sessionId Long id of the session
+     * @return list of ids of the players
+     */
+    public List<Long> getBowlerIds(Long sessionId) {
+        List<Long> bowlerIds = playerRepository.findBySessionIdOrderByRotationOrder(sessionId).stream()
+            .map(Player::getId)
+            .toList();
+        if (bowlerIds.isEmpty()) {
+            throw new SessionNotFoundException("No session with the id " + sessionId + " was found");
+        }
+        return bowlerIds;
+    }
+
+    /**
+     * Returns the games of the bowlers, the score of the team and the bowler whose turn is next. The score of the team
+     * is the sum of the running totals of the bowlers, which the games keep up to date with every roll. The next
+     * bowler is the one who is the furthest behind, in the order of the turns. Runs in the queue of the session and
+     * sees the rolls of the current command.
+     *
+     * @param sessionId Long id of the session
+     * @return {@link SessionScore}
+     */
+    @Transactional
+    public SessionScore getSession(Long sessionId) {
+        return getSession(sessionId, getBowlerIds(sessionId));
+    }
+
+    /**
+     * Returns the session like {@link #getSession(Long)}, as of the last committed command of every game, without
+     * running in the queue of the session.
+     *
+     * @param sessionId Long id of the session
+     * @return {@link SessionScore}
+     */
+    public SessionScore getPublishedSession(Long sessionId) {
+        LaneSession session = getLaneSession(sessionId);
+        return toSessionScore(session, getBowlerIds(sessionId).stream()
+            .map(gameService::getSnapshot)
+            .toList());
+    }
+
+    /**
+     * Saves the rolls of one rotation of the team in one transaction, either all of them are saved or none. The rolls
+     * are applied in the order of the turns of the bowlers.
+     *
+     * @param sessionId Long id of the session
+     * @param rotation rolls of the bowlers of the session
+     * @return {@link SessionScore} after the rotation
+     */
+    @Transactional
+    public SessionScore saveRotation(Long sessionId, @NotEmpty List<@Valid @NotNull PlayerRolls> rotation) {
+        List<Long> bowlerIds = getBowlerIds(sessionId);
+        Map<Long, Integer> turns = new HashMap<>();
+        for (int i = 0; i < bowlerIds.size(); i++) {
+            turns.put(bowlerIds.get(i), i);
+        }
+        Set<Long> seen = new HashSet<>();
+        for (PlayerRolls rolls : rotation) {
+            if (!turns.containsKey(rolls.userId())) {
+                throw new InvalidRotationException(
+                    "The player with id " + rolls.userId() + " does not belong to the session " + sessionId);
+            }
+            if (!seen.add(rolls.userId())) {
+                throw new InvalidRotationException(
+                    "The player with id " + rolls.userId() + " has more than one turn in the rotation");
+            }
+        }
+        rotation.stream()
+            .sorted(Comparator.comparing(rolls -> turns.get(rolls.userId())))
+            .forEach(rolls -> gameService.saveRollResults(rolls.userId(), rolls.rolls()));
+        return getSession(sessionId, bowlerIds);
+    }
+
+    /**
+     * Finishes the session and frees its lane when the last game of the team is finished.
+     *
+     * @param event {@link GameFinishedEvent}
+     */
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        Long sessionId = playerRepository.findById(event.userId()).map(Player::getSessionId).orElse(null);
+        if (sessionId == null) {
+            return;
+        }
+        int teamScore = event.totalScore();
+        for (Long bowlerId : getBowlerIds(sessionId)) {
+            if (bowlerId.equals(event.userId())) {
+                continue;
+            }
+            IntermediateScore bowler = gameService.getIntermediateScore(bowlerId);
+            if (!bowler.isGameOver()) {
+                return;
+            }
+            teamScore += bowler.finalScore();
+        }
+        LaneSession session = getLaneSession(sessionId);
+        session.setFinished(true);
+        session.setTotalScore(teamScore);
+        laneSessionRepository.save(session);
+        laneAllocator.releaseSessionAfterCommit(sessionId);
+    }
+
+    private SessionScore getSession(Long sessionId, List<Long> bowlerIds) {
+        return toSessionScore(getLaneSession(sessionId), bowlerIds.stream()
+            .map(gameService::getCurrentSnapshot)
+            .toList());
+    }
+
+    private LaneSession getLaneSession(Long sessionId) {
+        return laneSessionRepository.findById(sessionId)
+            .orElseThrow(() -> new SessionNotFoundException("No session with the id " + sessionId + " was found"));
+    }
+
+    private static SessionScore toSessionScore(LaneSession session, List<GameSnapshot> bowlers) {
+        int teamScore = 0;
+        Long nextUserId = null;
+        int nextFrameNumber = Integer.MAX_VALUE;
+        for (GameSnapshot bowler : bowlers) {
+            teamScore += getRunningTotal(bowler.score());
+            if (!bowler.score().isGameOver() && bowler.nextFrameNumber() < nextFrameNumber) {
+                nextFrameNumber = bowler.nextFrameNumber();
+                nextUserId = bowler.score().userId();
+            }
+        }
+        return new SessionScore(session.getId(), session.getName(), session.getLane(), session.isFinished(), teamScore,
+            nextUserId, bowlers.stream().map(GameSnapshot::score).toList());
+    }
+
+    private static int getRunningTotal(IntermediateScore bowler) {
+        if (bowler.isGameOver()) {
+            return bowler.finalScore();
+        }
+        int runningTotal = 0;
+        for (FrameScore frame : bowler.frames()) {
+            if (frame.isFinalScore()) {
+                runningTotal = frame.score();
+            }
+        }
+        return runningTotal;
+    }
+}
@@ -0,0 +1,59 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.persistance.entity.LaneSession;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.LaneSessionRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.SessionCreated;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saves a new session with the games of its bowlers in one transaction. The bowlers are looked up or created before,
+ * so the transaction does not wait for a second connection while a new bowler is created.
+ */
+@Component
+class SessionWriter {
+
+    private final LaneSessionRepository laneSessionRepository;
+    private final PlayerRepository playerRepository;
+    private final LaneAllocator laneAllocator;
+
+    @Autowired
+    SessionWriter(LaneSessionRepository laneSessionRepository, PlayerRepository playerRepository,
+        LaneAllocator laneAllocator) {
+        this.laneSessionRepository = laneSessionRepository;
+        this.playerRepository = playerRepository;
+        this.laneAllocator = laneAllocator;
+    }
+
+    @Transactional
+    public SessionCreated createSession(String name, List<String> bowlers, List<Long> bowlerIds) {
+        int lane = laneAllocator.reserve();
+        LaneSession session = new LaneSession(name, lane);
+        List<Long> userIds = new ArrayList<>(bowlers.size());
+        Instant startedAt = Instant.now();
+        try {
+            laneSessionRepository.save(session);
+            for (int i = 0; i < bowlers.size(); i++) {
+                Player player = new Player(bowlers.get(i));
+                player.setLane(lane);
+                player.setStartedAt(startedAt);
+                player.setSessionId(session.getId());
+                player.setRotationOrder(i + 1);
+                player.setBowlerId(bowlerIds.get(i));
+                playerRepository.save(player);
+                userIds.add(player.getId());
+            }
+        } catch (RuntimeException e) {
+            laneAllocator.cancel(lane);
+            throw e;
+        }
+        laneAllocator.assignSession(lane, session.getId(), userIds);
+        return new SessionCreated(session.getId(), lane, userIds);
+    }
+}
@@ -0,0 +1,65 @@
+package com.genios.bowling.service;
+
+import com.genios.bowling.metrics.GameMetrics;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Default {@link GameWriter}, saves every change within the transaction of the request as frame and roll rows.
+ */
+@Component
+@ConditionalOnExpression("!${bowling.write-behind.enabled:false} and '${bowling.storage:rows}'.equalsIgnoreCase('rows')")
+public class WriteThroughGameWriter implements GameWriter {
+
+    private final PlayerService playerService;
+    private final FrameService frameService;
+    private final RollService rollService;
+    private final ActiveGameRegistry activeGameRegistry;
+    private final GameMetrics gameMetrics;
+
+    @Autowired
+    public WriteThroughGameWriter(PlayerService playerService, FrameService frameService, RollService rollService,
+        ActiveGameRegistry activeGameRegistry, GameMetrics gameMetrics) {
+        this.playerService = playerService;
+        this.frameService = frameService;
+        this.rollService = rollService;
+        this.activeGameRegistry = activeGameRegistry;
+        this.gameMetrics = gameMetrics;
+    }
+
+    @Override
+    public void saveRoll(ActiveGame game, int frameNumber, int rollNumber, int finalizedBefore) {
+        Long frameId = gameMetrics.time(GameMetrics.WRITE_FRAMES,
+            () -> frameService.saveFrameScores(game, frameNumber, finalizedBefore));
+        Long rollId = gameMetrics.time(GameMetrics.WRITE_ROLL, () -> rollService.createRoll(frameId, rollNumber,
+            game.getScoreCard().getPins(frameNumber, rollNumber), game.getStatus(frameNumber, rollNumber)));
+        game.setRollId(frameNumber, rollNumber, rollId);
+    }
+
+    @Override
+    public void saveRolls(ActiveGame game, List<Roll> rolls, int finalizedBefore) {
+        int lastFrameNumber = rolls.stream().mapToInt(Roll::frameNumber).max().orElse(0);
+        gameMetrics.time(GameMetrics.WRITE_FRAMES,
+            () -> frameService.saveFramesUpTo(game, finalizedBefore, lastFrameNumber));
+        gameMetrics.time(GameMetrics.WRITE_ROLL, () -> {
+            for (Roll roll : rolls) {
+                int frameNumber = roll.frameNumber();
+                int rollNumber = roll.rollNumber();
+                Long rollId = rollService.createRoll(game.getFrameId(frameNumber), rollNumber, roll.pins(),
+                    game.getStatus(frameNumber, rollNumber));
+                game.setRollId(frameNumber, rollNumber, rollId);
+            }
+        });
+    }
+
+    @Override
+    public void finishGame(ActiveGame game) {
+        playerService.setFinalScore(game.getUserId(), game.getScoreCard().getTotalScore());
+        activeGameRegistry.removeAfterCommit(game.getUserId());
+    }
+}
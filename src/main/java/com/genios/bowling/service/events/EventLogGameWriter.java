@@ -0,0 +1,89 @@
+package com.genios.bowling.service.events;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.metrics.GameMetrics;
+import com.genios.bowling.persistance.entity.RollEvent;
+import com.genios.bowling.persistance.entity.StoredGameSnapshot;
+import com.genios.bowling.persistance.repository.RollEventRepository;
+import com.genios.bowling.persistance.repository.StoredGameSnapshotRepository;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.service.GameWriter;
+import com.genios.bowling.service.PlayerService;
+import com.genios.bowling.service.packed.PackedGames;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link GameWriter} of the events storage. Every roll is appended to the log as an event, nothing is ever updated
+ * except the final score of the player. A snapshot of the game is appended whenever the number of events passes a
+ * multiple of {@code bowling.events.snapshot-interval}.
+ */
+@Component
+@ConditionalOnProperty(name = "bowling.storage", havingValue = "events")
+public class EventLogGameWriter implements GameWriter {
+
+    private final RollEventRepository rollEventRepository;
+    private final StoredGameSnapshotRepository storedGameSnapshotRepository;
+    private final PlayerService playerService;
+    private final ActiveGameRegistry activeGameRegistry;
+    private final GameMetrics gameMetrics;
+    private final int snapshotInterval;
+
+    @Autowired
+    public EventLogGameWriter(RollEventRepository rollEventRepository,
+        StoredGameSnapshotRepository storedGameSnapshotRepository, PlayerService playerService,
+        ActiveGameRegistry activeGameRegistry, GameMetrics gameMetrics, BowlingConfiguration configuration) {
+        this.rollEventRepository = rollEventRepository;
+        this.storedGameSnapshotRepository = storedGameSnapshotRepository;
+        this.playerService = playerService;
+        this.activeGameRegistry = activeGameRegistry;
+        this.gameMetrics = gameMetrics;
+        this.snapshotInterval = configuration.getEvents().getSnapshotInterval();
+    }
+
+    @Override
+    public void saveRoll(ActiveGame game, int frameNumber, int rollNumber, int finalizedBefore) {
+        int sequenceNumber = RollEvents.countRolls(game.getScoreCard());
+        Instant now = Instant.now();
+        gameMetrics.time(GameMetrics.WRITE_ROLL, () -> rollEventRepository.save(new RollEvent(game.getUserId(),
+            sequenceNumber, frameNumber, rollNumber, game.getScoreCard().getPins(frameNumber, rollNumber), now)));
+        saveSnapshotIfDue(game, sequenceNumber - 1, sequenceNumber, now);
+        PackedGames.setIds(game, frameNumber, rollNumber);
+    }
+
+    @Override
+    public void saveRolls(ActiveGame game, List<Roll> rolls, int finalizedBefore) {
+        int after = RollEvents.countRolls(game.getScoreCard());
+        int before = after - rolls.size();
+        Instant now = Instant.now();
+        List<RollEvent> events = new ArrayList<>(rolls.size());
+        for (Roll roll : rolls) {
+            events.add(new RollEvent(game.getUserId(), before + events.size() + 1, roll.frameNumber(),
+                roll.rollNumber(), roll.pins(), now));
+        }
+        gameMetrics.time(GameMetrics.WRITE_ROLL, () -> rollEventRepository.saveAll(events));
+        saveSnapshotIfDue(game, before, after, now);
+        for (Roll roll : rolls) {
+            PackedGames.setIds(game, roll.frameNumber(), roll.rollNumber());
+        }
+    }
+
+    @Override
+    public void finishGame(ActiveGame game) {
+        playerService.setFinalScore(game.getUserId(), game.getScoreCard().getTotalScore());
+        activeGameRegistry.removeAfterCommit(game.getUserId());
+    }
+
+    private void saveSnapshotIfDue(ActiveGame game, int before, int after, Instant now) {
+        if (snapshotInterval > 0 && after / snapshotInterval > before / snapshotInterval) {
+            storedGameSnapshotRepository.save(
+                new StoredGameSnapshot(game.getUserId(), after, game.getScoreCard().pack(), now));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.genios.bowling.service.events;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.entity.RollEvent;
+import com.genios.bowling.persistance.entity.StoredGameSnapshot;
+import com.genios.bowling.persistance.projection.PackedGameRow;
+import com.genios.bowling.persistance.projection.RollEventRow;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollEventRepository;
+import com.genios.bowling.persistance.repository.StoredGameSnapshotRepository;
+import com.genios.bowling.service.ScoreRowReader;
+import com.genios.bowling.service.packed.PackedGames;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link ScoreRowReader} of the events storage. A game is rebuilt from its latest snapshot and the events appended
+ * after it, then scored on a score card like a packed game.
+ */
+@Component
+@ConditionalOnProperty(name = "bowling.storage", havingValue = "events")
+public class EventScoreRowReader implements ScoreRowReader {
+
+    private final PlayerRepository playerRepository;
+    private final RollEventRepository rollEventRepository;
+    private final StoredGameSnapshotRepository storedGameSnapshotRepository;
+
+    @Autowired
+    public EventScoreRowReader(PlayerRepository playerRepository, RollEventRepository rollEventRepository,
+        StoredGameSnapshotRepository storedGameSnapshotRepository) {
+        this.playerRepository = playerRepository;
+        this.rollEventRepository = rollEventRepository;
+        this.storedGameSnapshotRepository = storedGameSnapshotRepository;
+    }
+
+    @Override
+    public List<ScoreRow> findScoreRows(Long userId) {
+        Optional<Player> player = playerRepository.findById(userId);
+        if (player.isEmpty()) {
+            return List.of();
+        }
+        Optional<StoredGameSnapshot> snapshot =
+            storedGameSnapshotRepository.findFirstByUserIdOrderBySequenceNumberDesc(userId);
+        byte[] pins = snapshot.map(s -> s.getPins().clone()).orElseGet(RollEvents::emptyPins);
+        int sequenceNumber = snapshot.map(StoredGameSnapshot::getSequenceNumber).orElse(0);
+        for (RollEvent event : rollEventRepository
+            .findByUserIdAndSequenceNumberGreaterThanOrderBySequenceNumber(userId, sequenceNumber)) {
+            RollEvents.fold(pins, event.getFrameNumber(), event.getRollNumber(), event.getPins());
+        }
+        return PackedGames.toScoreRows(new PackedGameRow(userId, player.get().getName(),
+            player.get().getTotalScore(), player.get().isFinished(), pins));
+    }
+
+    /**
+     * Streams the finished games folded from all their events, snapshots are not needed when every event is read
+     * anyway.
+     */
+    @Override
+    public Stream<ScoreRow> streamFinishedScoreRows() {
+        Stream<RollEventRow> events = rollEventRepository.streamFinishedRollEventRows();
+        Iterator<RollEventRow> rows = events.iterator();
+        Iterator<List<ScoreRow>> games = new Iterator<>() {
+
+            private RollEventRow next = rows.hasNext() ? rows.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public List<ScoreRow> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                RollEventRow first = next;
+                byte[] pins = RollEvents.emptyPins();
+                while (next != null && next.userId().equals(first.userId())) {
+                    if (next.frameNumber() != null) {
+                        RollEvents.fold(pins, next.frameNumber(), next.rollNumber(), next.pins());
+                    }
+                    next = rows.hasNext() ? rows.next() : null;
+                }
+                return PackedGames.toScoreRows(new PackedGameRow(first.userId(), first.name(), first.totalScore(),
+                    first.isFinished(), pins));
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(games, Spliterator.ORDERED), false)
+            .flatMap(List::stream)
+            .onClose(events::close);
+    }
+}
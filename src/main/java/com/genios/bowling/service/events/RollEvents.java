@@ -0,0 +1,70 @@
+package com.genios.bowling.service.events;
+
+import com.genios.bowling.persistance.entity.RollEvent;
+import com.genios.bowling.scoring.ScoreCard;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Folds roll events into the packed pins of a game, see {@link ScoreCard#pack()}.
+ */
+public final class RollEvents {
+
+    private RollEvents() {
+    }
+
+    /**
+     * Returns the pins of a game without rolls.
+     */
+    public static byte[] emptyPins() {
+        byte[] pins = new byte[ScoreCard.SLOTS];
+        Arrays.fill(pins, (byte) -1);
+        return pins;
+    }
+
+    /**
+     * Applies one event to the pins of the game.
+     *
+     * @param pins byte array of the game, changed in place
+     * @param frameNumber int number of the frame
+     * @param rollNumber int number of the roll within the frame
+     * @param rollPins int how many pins were knocked off
+     */
+    public static void fold(byte[] pins, int frameNumber, int rollNumber, int rollPins) {
+        pins[ScoreCard.slot(frameNumber, rollNumber)] = (byte) rollPins;
+    }
+
+    /**
+     * Returns how many rolls are on the card, which is also the sequence number of the last event of the game.
+     */
+    public static int countRolls(ScoreCard scoreCard) {
+        int rolls = 0;
+        for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+            rolls += scoreCard.getRollCount(frameNumber);
+        }
+        return rolls;
+    }
+
+    /**
+     * Describes every roll on the card as an event, in the order of the frame and roll numbers.
+     *
+     * @param userId Long id of the player
+     * @param scoreCard {@link ScoreCard}
+     * @param createdAt {@link Instant} of the events
+     * @return list of {@link RollEvent} numbered from 1
+     */
+    public static List<RollEvent> toEvents(Long userId, ScoreCard scoreCard, Instant createdAt) {
+        List<RollEvent> events = new ArrayList<>(countRolls(scoreCard));
+        for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+            for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+                if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                    events.add(new RollEvent(userId, events.size() + 1, frameNumber, rollNumber,
+                        scoreCard.getPins(frameNumber, rollNumber), createdAt));
+                }
+            }
+        }
+        return events;
+    }
+}
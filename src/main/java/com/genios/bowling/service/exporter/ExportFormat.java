@@ -0,0 +1,109 @@
+package com.genios.bowling.service.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.genios.bowling.record.response.FrameScore;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.RollScore;
+import org.springframework.http.MediaType;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Formats of the exported games.
+ * <ul>
+ *     <li>NDJSON: one game per line, the same object as the score of the player returned by the API, plus the pins of
+ *     all the rolls, so the file can be imported again</li>
+ *     <li>CSV: one roll per line with the player and the frame it belongs to</li>
+ * </ul>
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        public void writeGame(Writer writer, IntermediateScore game) throws IOException {
+            writer.write(OBJECT_MAPPER.writeValueAsString(new ExportedGame(game)));
+            writer.write('\n');
+        }
+    },
+
+    CSV("text/csv") {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("user_id,name,total_score,frame_number,frame_score,roll_number,pins,status\n");
+        }
+
+        @Override
+        public void writeGame(Writer writer, IntermediateScore game) throws IOException {
+            String player = game.userId() + "," + escape(game.name()) + "," + game.finalScore() + ",";
+            for (FrameScore frame : game.frames()) {
+                for (RollScore roll : frame.rolls()) {
+                    writer.write(player);
+                    writer.write(frame.frameNumber() + "," + frame.score() + "," + roll.rollNumber() + ","
+                        + roll.pins() + "," + (roll.status() == null ? "" : roll.status()) + "\n");
+                }
+            }
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public void writeHeader(Writer writer) throws IOException {
+    }
+
+    /**
+     * Writes one finished game.
+     *
+     * @param writer {@link Writer} of the export
+     * @param game {@link IntermediateScore} of the game
+     */
+    public abstract void writeGame(Writer writer, IntermediateScore game) throws IOException;
+
+    public MediaType getMediaType() {
+        return MediaType.parseMediaType(contentType);
+    }
+
+    /**
+     * Finds the format by its name or by the extension of the file.
+     *
+     * @param value String name of the format or of the file
+     * @return {@link ExportFormat}
+     */
+    public static ExportFormat fromName(String value) {
+        String lowerCase = value.toLowerCase(Locale.ROOT);
+        if (lowerCase.endsWith("csv")) {
+            return CSV;
+        }
+        if (lowerCase.endsWith("ndjson") || lowerCase.endsWith("jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unknown export format " + value + ", expected csv or ndjson");
+    }
+
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * Game as it is written to NDJSON.
+     */
+    private record ExportedGame(Long userId, String name, Integer totalScore, int[] pins, List<FrameScore> frames) {
+
+        private ExportedGame(IntermediateScore game) {
+            this(game.userId(), game.name(), game.finalScore(), game.frames().stream()
+                .flatMap(frame -> frame.rolls().stream())
+                .mapToInt(RollScore::pins)
+                .toArray(), game.frames());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.genios.bowling.service.exporter;
+
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.service.ScoreReadService;
+import com.genios.bowling.service.ScoreRowReader;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes all finished games to a stream. The rows are read from a database cursor and only the rows of the game being
+ * written are kept in memory, so the memory used does not depend on the number of games.
+ */
+@Service
+@Slf4j
+public class GameExporter {
+
+    private final ScoreRowReader scoreRowReader;
+    private final ScoreReadService scoreReadService;
+
+    @Autowired
+    public GameExporter(ScoreRowReader scoreRowReader, ScoreReadService scoreReadService) {
+        this.scoreRowReader = scoreRowReader;
+        this.scoreReadService = scoreReadService;
+    }
+
+    /**
+     * Writes the finished games ordered by the player id. The output is flushed but not closed.
+     *
+     * @param output {@link OutputStream} to write to
+     * @param format {@link ExportFormat}
+     * @return number of exported games
+     */
+    @Transactional
+    public long exportGames(OutputStream output, ExportFormat format) {
+        long games = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try (Stream<ScoreRow> stream = scoreRowReader.streamFinishedScoreRows()) {
+            format.writeHeader(writer);
+            List<ScoreRow> rows = new ArrayList<>();
+            Iterator<ScoreRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                ScoreRow row = iterator.next();
+                if (!rows.isEmpty() && !rows.get(0).userId().equals(row.userId())) {
+                    format.writeGame(writer, scoreReadService.toIntermediateScore(rows));
+                    games++;
+                    rows.clear();
+                }
+                rows.add(row);
+            }
+            if (!rows.isEmpty()) {
+                format.writeGame(writer, scoreReadService.toIntermediateScore(rows));
+                games++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the exported games", e);
+        }
+        log.info("Exported {} games", games);
+        return games;
+    }
+}
@@ -0,0 +1,212 @@
+package com.genios.bowling.service.importer;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.exception.GameNotFinishedException;
+import com.genios.bowling.exception.roll.InvalidRollException;
+import com.genios.bowling.record.response.ImportResult;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ScoreCard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports finished games from a file. The file is read line by line, every batch of lines is parsed, scored with the
+ * rules of the {@link ScoreCard} and saved on its own thread, and only a few batches are in memory at a time. A line
+ * that is not a valid finished game is rejected, the rest of its batch is saved.
+ */
+@Service
+@Slf4j
+public class GameImporter {
+
+    private static final int MIN_NAME_LENGTH = 2;
+    private static final int MAX_NAME_LENGTH = 25;
+
+    private final ImportBatchWriter batchWriter;
+    private final int batchSize;
+    private final int threads;
+    private final int maxErrors;
+
+    @Autowired
+    GameImporter(BowlingConfiguration configuration, ImportBatchWriter batchWriter) {
+        BowlingConfiguration.Importer importer = configuration.getImporter();
+        this.batchWriter = batchWriter;
+        this.batchSize = importer.getBatchSize();
+        this.threads = importer.getThreads() > 0 ? importer.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.maxErrors = importer.getMaxErrors();
+    }
+
+    /**
+     * Reads the games from the stream and saves them.
+     *
+     * @param input {@link InputStream} UTF-8 content of the file, it is not closed
+     * @param format {@link ImportFormat} of the file
+     * @return {@link ImportResult}
+     */
+    public ImportResult importGames(InputStream input, ImportFormat format) {
+        Progress progress = new Progress(maxErrors);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "game-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(threads * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            List<String> lines = new ArrayList<>(batchSize);
+            long firstLineNumber = 1;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && format.isHeader(line)) {
+                    firstLineNumber = 2;
+                    continue;
+                }
+                lines.add(line);
+                if (lines.size() == batchSize) {
+                    futures.add(submit(executor, inFlight, format, lines, firstLineNumber, progress));
+                    lines = new ArrayList<>(batchSize);
+                    firstLineNumber = lineNumber + 1;
+                }
+            }
+            if (!lines.isEmpty()) {
+                futures.add(submit(executor, inFlight, format, lines, firstLineNumber, progress));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the games to import", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing the games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not import the games", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        ImportResult result = progress.toResult();
+        log.info("Imported {} games, rejected {}", result.imported(), result.rejected());
+        return result;
+    }
+
+    private Future<?> submit(ExecutorService executor, Semaphore inFlight, ImportFormat format, List<String> lines,
+        long firstLineNumber, Progress progress) throws InterruptedException {
+        inFlight.acquire();
+        return executor.submit(() -> {
+            try {
+                importBatch(format, lines, firstLineNumber, progress);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void importBatch(ImportFormat format, List<String> lines, long firstLineNumber, Progress progress) {
+        List<ActiveGame> games = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                games.add(score(format.parse(line)));
+            } catch (RuntimeException e) {
+                progress.reject(firstLineNumber + i, e.getMessage());
+            }
+        }
+        if (games.isEmpty()) {
+            return;
+        }
+        try {
+            batchWriter.write(games);
+            progress.imported.addAndGet(games.size());
+        } catch (RuntimeException e) {
+            log.error("Could not save the games of the lines {} to {}", firstLineNumber,
+                firstLineNumber + lines.size() - 1, e);
+            progress.rejectBatch(games.size(), firstLineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Plays the game roll by roll, so the same rules apply as for a game played on a lane.
+     *
+     * @param imported {@link ImportedGame}
+     * @return {@link ActiveGame} with all the frames finalized
+     */
+    static ActiveGame score(ImportedGame imported) {
+        String name = imported.name();
+        if (name == null || name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException(
+                "Name of the player must have from " + MIN_NAME_LENGTH + " to " + MAX_NAME_LENGTH + " characters");
+        }
+        if (imported.pins() == null) {
+            throw new IllegalArgumentException("The game has no rolls");
+        }
+        ActiveGame game = new ActiveGame(null, name, null);
+        ScoreCard scoreCard = game.getScoreCard();
+        for (int pins : imported.pins()) {
+            if (scoreCard.isGameOver()) {
+                throw new InvalidRollException("The game has more rolls than a game can have");
+            }
+            int frameNumber = scoreCard.getNextFrameNumber();
+            if (pins < 0 || pins > ScoreCard.MAX_PINS || scoreCard.getAvailablePins(frameNumber, pins) < pins) {
+                throw new InvalidRollException(
+                    "Received " + pins + " pins, higher than the number of available pins on the frame " + frameNumber);
+            }
+            game.roll(frameNumber, scoreCard.getNextRollNumber(), pins);
+        }
+        if (!scoreCard.isComplete()) {
+            throw new GameNotFinishedException("The game is not finished");
+        }
+        return game;
+    }
+
+    private static final class Progress {
+
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<String> errors = new ArrayList<>();
+        private final int maxErrors;
+
+        private Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long lineNumber, String reason) {
+            rejected.incrementAndGet();
+            addError("Line " + lineNumber + ": " + reason);
+        }
+
+        private void rejectBatch(int games, long firstLineNumber, String reason) {
+            rejected.addAndGet(games);
+            addError("Lines from " + firstLineNumber + ": " + reason);
+        }
+
+        private synchronized void addError(String error) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+
+        private synchronized ImportResult toResult() {
+            return new ImportResult(imported.get(), rejected.get(), List.copyOf(errors));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.genios.bowling.service.importer;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.persistance.entity.Frame;
+import com.genios.bowling.persistance.entity.PackedGame;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.entity.Roll;
+import com.genios.bowling.persistance.entity.RollEvent;
+import com.genios.bowling.persistance.entity.StoredGameSnapshot;
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.PackedGameRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollEventRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.persistance.repository.StoredGameSnapshotRepository;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.Leaderboard;
+import com.genios.bowling.scoring.ScoreCard;
+import com.genios.bowling.service.events.RollEvents;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saves the imported games, already scored, in one transaction per batch. Frames and rolls take their ids from
+ * sequences, so they are sent to the database in JDBC batches. With the packed storage every game is one row, with the
+ * events storage every roll is an event and every game gets a snapshot.
+ */
+@Component
+class ImportBatchWriter {
+
+    private final PlayerRepository playerRepository;
+    private final FrameRepository frameRepository;
+    private final RollRepository rollRepository;
+    private final PackedGameRepository packedGameRepository;
+    private final RollEventRepository rollEventRepository;
+    private final StoredGameSnapshotRepository storedGameSnapshotRepository;
+    private final Leaderboard leaderboard;
+    private final BowlingConfiguration.Storage storage;
+
+    @Autowired
+    ImportBatchWriter(PlayerRepository playerRepository, FrameRepository frameRepository,
+        RollRepository rollRepository, PackedGameRepository packedGameRepository,
+        RollEventRepository rollEventRepository, StoredGameSnapshotRepository storedGameSnapshotRepository,
+        Leaderboard leaderboard, BowlingConfiguration configuration) {
+        this.playerRepository = playerRepository;
+        this.frameRepository = frameRepository;
+        this.rollRepository = rollRepository;
+        this.packedGameRepository = packedGameRepository;
+        this.rollEventRepository = rollEventRepository;
+        this.storedGameSnapshotRepository = storedGameSnapshotRepository;
+        this.leaderboard = leaderboard;
+        this.storage = configuration.getStorage();
+    }
+
+    /**
+     * Saves the finished games with all their frames and rolls.
+     *
+     * @param games list of {@link ActiveGame} with all the frames finalized
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void write(List<ActiveGame> games) {
+        if (storage == BowlingConfiguration.Storage.PACKED) {
+            writePacked(games);
+            return;
+        }
+        if (storage == BowlingConfiguration.Storage.EVENTS) {
+            writeEvents(games);
+            return;
+        }
+        List<Frame> frames = new ArrayList<>(games.size() * ScoreCard.FRAMES);
+        List<Roll> rolls = new ArrayList<>(games.size() * ScoreCard.FRAMES * 2);
+        for (ActiveGame game : games) {
+            ScoreCard scoreCard = game.getScoreCard();
+            Player player = new Player(null, game.getName(), scoreCard.getTotalScore(), true, List.of());
+            playerRepository.save(player);
+            for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+                Frame frame = new Frame();
+                frame.setUserId(player.getId());
+                frame.setFrameNumber(frameNumber);
+                frame.setFrameScore(scoreCard.getFrameScore(frameNumber));
+                frame.setFinalScore(true);
+                frame.setRolls(List.of());
+                frames.add(frame);
+            }
+            leaderboard.addAfterCommit(player.getId(), player.getName(), scoreCard.getTotalScore());
+        }
+        frameRepository.saveAll(frames);
+
+        int index = 0;
+        for (ActiveGame game : games) {
+            ScoreCard scoreCard = game.getScoreCard();
+            for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+                Frame frame = frames.get(index++);
+                for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+                    if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                        Roll roll = new Roll(frame.getId(), rollNumber, scoreCard.getPins(frameNumber, rollNumber));
+                        roll.setStatus(game.getStatus(frameNumber, rollNumber));
+                        roll.setFrame(frame);
+                        rolls.add(roll);
+                    }
+                }
+            }
+        }
+        rollRepository.saveAll(rolls);
+    }
+
+    private void writePacked(List<ActiveGame> games) {
+        List<PackedGame> packedGames = new ArrayList<>(games.size());
+        for (ActiveGame game : games) {
+            ScoreCard scoreCard = game.getScoreCard();
+            Player player = new Player(null, game.getName(), scoreCard.getTotalScore(), true, List.of());
+            playerRepository.save(player);
+            packedGames.add(new PackedGame(player.getId(), scoreCard.pack()));
+            leaderboard.addAfterCommit(player.getId(), player.getName(), scoreCard.getTotalScore());
+        }
+        packedGameRepository.saveAll(packedGames);
+    }
+
+    private void writeEvents(List<ActiveGame> games) {
+        Instant now = Instant.now();
+        List<RollEvent> events = new ArrayList<>(games.size() * ScoreCard.FRAMES * 2);
+        List<StoredGameSnapshot> snapshots = new ArrayList<>(games.size());
+        for (ActiveGame game : games) {
+            ScoreCard scoreCard = game.getScoreCard();
+            Player player = new Player(null, game.getName(), scoreCard.getTotalScore(), true, List.of());
+            playerRepository.save(player);
+            List<RollEvent> gameEvents = RollEvents.toEvents(player.getId(), scoreCard, now);
+            events.addAll(gameEvents);
+            snapshots.add(new StoredGameSnapshot(player.getId(), gameEvents.size(), scoreCard.pack(), now));
+            leaderboard.addAfterCommit(player.getId(), player.getName(), scoreCard.getTotalScore());
+        }
+        rollEventRepository.saveAll(events);
+        storedGameSnapshotRepository.saveAll(snapshots);
+    }
+}
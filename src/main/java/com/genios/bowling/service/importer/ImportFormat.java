@@ -0,0 +1,108 @@
+package com.genios.bowling.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import java.util.Locale;
+
+/**
+ * Formats of the import files. Both have one game per line, so a file is read as a stream and never kept in memory.
+ * <ul>
+ *     <li>CSV: name of the player followed by the pins of every roll, {@code Max,10,7,3,...}</li>
+ *     <li>NDJSON: one object per line, {@code {"name":"Max","pins":[10,7,3,...]}}, other fields are ignored, so the
+ *     NDJSON export can be imported</li>
+ * </ul>
+ */
+public enum ImportFormat {
+
+    CSV("text/csv") {
+        @Override
+        public ImportedGame parse(String line) {
+            String[] values = line.split(",");
+            int[] pins = new int[values.length - 1];
+            for (int i = 1; i < values.length; i++) {
+                pins[i - 1] = Integer.parseInt(values[i].trim());
+            }
+            return new ImportedGame(values[0].trim(), pins);
+        }
+
+        @Override
+        public boolean isHeader(String line) {
+            return line.toLowerCase(Locale.ROOT).startsWith("name,");
+        }
+    },
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        public ImportedGame parse(String line) {
+            try {
+                return OBJECT_MAPPER.readValue(line, ImportedGame.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e.getOriginalMessage(), e);
+            }
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final String contentType;
+
+    ImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Parses one line of the file into a game.
+     *
+     * @param line String not blank line of the file
+     * @return {@link ImportedGame}
+     * @throws IllegalArgumentException if the line is not valid
+     */
+    public abstract ImportedGame parse(String line);
+
+    /**
+     * Checks if the first line of the file is a header and must be skipped.
+     */
+    public boolean isHeader(String line) {
+        return false;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Finds the format by the extension of the file.
+     *
+     * @param fileName String name of the file
+     * @return {@link ImportFormat}
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        if (lowerCase.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lowerCase.endsWith(".ndjson") || lowerCase.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unknown format of the file " + fileName + ", expected .csv or .ndjson");
+    }
+
+    /**
+     * Finds the format by the content type of the request.
+     *
+     * @param contentType String content type
+     * @return {@link ImportFormat}
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (ImportFormat format : values()) {
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(format.contentType))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown content type " + contentType);
+    }
+}
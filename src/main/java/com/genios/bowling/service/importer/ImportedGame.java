@@ -0,0 +1,11 @@
+package com.genios.bowling.service.importer;
+
+/**
+ * Finished game read from one line of an import file.
+ *
+ * @param name String name of the player
+ * @param pins pins knocked off by every roll of the game, in the order of the rolls
+ */
+public record ImportedGame(String name, int[] pins) {
+
+}
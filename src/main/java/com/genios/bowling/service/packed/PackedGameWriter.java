@@ -0,0 +1,64 @@
+package com.genios.bowling.service.packed;
+
+import com.genios.bowling.metrics.GameMetrics;
+import com.genios.bowling.persistance.entity.PackedGame;
+import com.genios.bowling.persistance.repository.PackedGameRepository;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.service.GameWriter;
+import com.genios.bowling.service.PlayerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * {@link GameWriter} of the packed storage. The whole score card is written to the single row of the game, so a roll
+ * costs one update whatever frames it finalized, the first roll of a game inserts the row.
+ */
+@Component
+@ConditionalOnProperty(name = "bowling.storage", havingValue = "packed")
+public class PackedGameWriter implements GameWriter {
+
+    private final PackedGameRepository packedGameRepository;
+    private final PlayerService playerService;
+    private final ActiveGameRegistry activeGameRegistry;
+    private final GameMetrics gameMetrics;
+
+    @Autowired
+    public PackedGameWriter(PackedGameRepository packedGameRepository, PlayerService playerService,
+        ActiveGameRegistry activeGameRegistry, GameMetrics gameMetrics) {
+        this.packedGameRepository = packedGameRepository;
+        this.playerService = playerService;
+        this.activeGameRegistry = activeGameRegistry;
+        this.gameMetrics = gameMetrics;
+    }
+
+    @Override
+    public void saveRoll(ActiveGame game, int frameNumber, int rollNumber, int finalizedBefore) {
+        gameMetrics.time(GameMetrics.WRITE_ROLL, () -> savePins(game));
+        PackedGames.setIds(game, frameNumber, rollNumber);
+    }
+
+    @Override
+    public void saveRolls(ActiveGame game, List<Roll> rolls, int finalizedBefore) {
+        gameMetrics.time(GameMetrics.WRITE_ROLL, () -> savePins(game));
+        for (Roll roll : rolls) {
+            PackedGames.setIds(game, roll.frameNumber(), roll.rollNumber());
+        }
+    }
+
+    @Override
+    public void finishGame(ActiveGame game) {
+        playerService.setFinalScore(game.getUserId(), game.getScoreCard().getTotalScore());
+        activeGameRegistry.removeAfterCommit(game.getUserId());
+    }
+
+    private void savePins(ActiveGame game) {
+        byte[] pins = game.getScoreCard().pack();
+        if (packedGameRepository.updatePins(game.getUserId(), pins) == 0) {
+            packedGameRepository.save(new PackedGame(game.getUserId(), pins));
+        }
+    }
+}
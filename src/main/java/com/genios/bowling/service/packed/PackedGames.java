@@ -0,0 +1,73 @@
+package com.genios.bowling.service.packed;
+
+import com.genios.bowling.persistance.projection.PackedGameRow;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ScoreCard;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unpacks the games of the packed and events storages. There are no frame and roll rows, so their ids are derived from
+ * the id of the player and their numbers, they stay the same every time the game is read.
+ */
+public final class PackedGames {
+
+    private PackedGames() {
+    }
+
+    public static Long frameId(Long userId, int frameNumber) {
+        return userId * ScoreCard.FRAMES + frameNumber - 1;
+    }
+
+    public static Long rollId(Long userId, int frameNumber, int rollNumber) {
+        return frameId(userId, frameNumber) * ScoreCard.ROLLS_PER_FRAME + rollNumber - 1;
+    }
+
+    /**
+     * Gives the frame and the roll that were just saved their derived ids.
+     */
+    public static void setIds(ActiveGame game, int frameNumber, int rollNumber) {
+        game.setFrameId(frameNumber, frameId(game.getUserId(), frameNumber));
+        game.setRollId(frameNumber, rollNumber, rollId(game.getUserId(), frameNumber, rollNumber));
+    }
+
+    /**
+     * Replays the packed rolls on a score card and describes the game with the same rows the rows storage returns.
+     *
+     * @param row {@link PackedGameRow}
+     * @return list of {@link ScoreRow} ordered by the frame and roll numbers, at least one
+     */
+    public static List<ScoreRow> toScoreRows(PackedGameRow row) {
+        ActiveGame game = new ActiveGame(row.userId(), row.name(), row.totalScore());
+        byte[] pins = row.pins();
+        if (pins != null) {
+            for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+                for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+                    int rollPins = pins[ScoreCard.slot(frameNumber, rollNumber)];
+                    if (rollPins >= 0) {
+                        game.roll(frameNumber, rollNumber, rollPins);
+                    }
+                }
+            }
+        }
+        ScoreCard scoreCard = game.getScoreCard();
+        List<ScoreRow> rows = new ArrayList<>();
+        for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+            for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+                if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                    rows.add(new ScoreRow(row.userId(), row.name(), row.totalScore(), row.isFinished(),
+                        frameId(row.userId(), frameNumber), frameNumber, scoreCard.isFinalized(frameNumber),
+                        scoreCard.getFrameScore(frameNumber), rollId(row.userId(), frameNumber, rollNumber),
+                        rollNumber, scoreCard.getPins(frameNumber, rollNumber),
+                        game.getStatus(frameNumber, rollNumber)));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            rows.add(new ScoreRow(row.userId(), row.name(), row.totalScore(), row.isFinished(),
+                null, null, null, null, null, null, null, null));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,38 @@
+package com.genios.bowling.service.packed;
+
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.persistance.repository.PackedGameRepository;
+import com.genios.bowling.service.ScoreRowReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScoreRowReader} of the packed storage, reads one row per game and unpacks it.
+ */
+@Component
+@ConditionalOnProperty(name = "bowling.storage", havingValue = "packed")
+public class PackedScoreRowReader implements ScoreRowReader {
+
+    private final PackedGameRepository packedGameRepository;
+
+    @Autowired
+    public PackedScoreRowReader(PackedGameRepository packedGameRepository) {
+        this.packedGameRepository = packedGameRepository;
+    }
+
+    @Override
+    public List<ScoreRow> findScoreRows(Long userId) {
+        return packedGameRepository.findPackedGameRow(userId)
+            .map(PackedGames::toScoreRows)
+            .orElse(List.of());
+    }
+
+    @Override
+    public Stream<ScoreRow> streamFinishedScoreRows() {
+        return packedGameRepository.streamFinishedPackedGameRows()
+            .flatMap(row -> PackedGames.toScoreRows(row).stream());
+    }
+}
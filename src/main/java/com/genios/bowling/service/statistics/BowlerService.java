@@ -0,0 +1,85 @@
+package com.genios.bowling.service.statistics;
+
+import com.genios.bowling.exception.bowler.BowlerNotFoundException;
+import com.genios.bowling.persistance.entity.Bowler;
+import com.genios.bowling.persistance.repository.BowlerRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.BowlerGame;
+import com.genios.bowling.record.response.BowlerRecord;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import java.util.List;
+
+/**
+ * Handles the identity of the bowlers and their history of games.
+ */
+@Service
+@Validated
+public class BowlerService {
+
+    private final BowlerRepository bowlerRepository;
+    private final PlayerRepository playerRepository;
+    private final BowlerWriter bowlerWriter;
+
+    @Autowired
+    public BowlerService(BowlerRepository bowlerRepository, PlayerRepository playerRepository,
+        BowlerWriter bowlerWriter) {
+        this.bowlerRepository = bowlerRepository;
+        this.playerRepository = playerRepository;
+        this.bowlerWriter = bowlerWriter;
+    }
+
+    /**
+     * Returns the id of the bowler with the handle, the bowler is created on the first game. Without a handle the
+     * name is used as the handle.
+     *
+     * @param handle String unique handle of the bowler, null to use the name
+     * @param name String name of the bowler
+     * @return Long id of the bowler
+     */
+    public Long getOrCreateBowler(String handle, String name) {
+        String bowlerHandle = handle == null ? name : handle;
+        return bowlerRepository.findByHandle(bowlerHandle)
+            .orElseGet(() -> {
+                try {
+                    return bowlerWriter.createBowler(bowlerHandle, name);
+                } catch (DataIntegrityViolationException e) {
+                    return bowlerRepository.findByHandle(bowlerHandle).orElseThrow(() -> e);
+                }
+            })
+            .getId();
+    }
+
+    /**
+     * Returns the bowler with the handle.
+     *
+     * @param handle String unique handle of the bowler
+     * @return {@link BowlerRecord}
+     */
+    public BowlerRecord getBowler(String handle) {
+        Bowler bowler = bowlerRepository.findByHandle(handle)
+            .orElseThrow(() -> new BowlerNotFoundException("No bowler with the handle " + handle + " was found"));
+        return new BowlerRecord(bowler.getId(), bowler.getHandle(), bowler.getName());
+    }
+
+    /**
+     * Returns a page of the finished games of the bowler, the latest first.
+     *
+     * @param bowlerId Long id of the bowler
+     * @param page int number of the page, starting with 0
+     * @param size int max number of games on the page
+     * @return list of {@link BowlerGame}
+     */
+    public List<BowlerGame> getGames(Long bowlerId, @Min(0) int page, @Min(1) int size) {
+        if (!bowlerRepository.existsById(bowlerId)) {
+            throw new BowlerNotFoundException("No bowler with the id " + bowlerId + " was found");
+        }
+        return playerRepository.findFinishedGames(bowlerId, PageRequest.of(page, size)).stream()
+            .map(game -> new BowlerGame(game.userId(), game.totalScore()))
+            .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.genios.bowling.service.statistics;
+
+import com.genios.bowling.persistance.entity.Bowler;
+import com.genios.bowling.persistance.entity.BowlerStatistics;
+import com.genios.bowling.persistance.repository.BowlerRepository;
+import com.genios.bowling.persistance.repository.BowlerStatisticsRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates a bowler with empty statistics in its own transaction, so a bowler created by a concurrent request only
+ * fails this transaction and not the one of the game.
+ */
+@Component
+class BowlerWriter {
+
+    private final BowlerRepository bowlerRepository;
+    private final BowlerStatisticsRepository bowlerStatisticsRepository;
+
+    @Autowired
+    BowlerWriter(BowlerRepository bowlerRepository, BowlerStatisticsRepository bowlerStatisticsRepository) {
+        this.bowlerRepository = bowlerRepository;
+        this.bowlerStatisticsRepository = bowlerStatisticsRepository;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public Bowler createBowler(String handle, String name) {
+        Bowler bowler = bowlerRepository.saveAndFlush(new Bowler(handle, name));
+        bowlerStatisticsRepository.save(new BowlerStatistics(bowler.getId()));
+        return bowler;
+    }
+}
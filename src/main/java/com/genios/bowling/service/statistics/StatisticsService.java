@@ -0,0 +1,114 @@
+package com.genios.bowling.service.statistics;
+
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.exception.bowler.BowlerNotFoundException;
+import com.genios.bowling.persistance.entity.Bowler;
+import com.genios.bowling.persistance.entity.BowlerStatistics;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.BowlerRepository;
+import com.genios.bowling.persistance.repository.BowlerStatisticsRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.BowlerStatisticsRecord;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.scoring.ScoreCard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Keeps the statistics of the bowlers up to date. A finished game is added to the running totals of its bowler in the
+ * transaction that finished it, from the score card that is still in memory, so no frames or rolls are read. Reading
+ * the statistics is one row by the primary key.
+ */
+@Service
+@Slf4j
+public class StatisticsService {
+
+    private final BowlerStatisticsRepository bowlerStatisticsRepository;
+    private final BowlerRepository bowlerRepository;
+    private final PlayerRepository playerRepository;
+    private final ActiveGameRegistry activeGameRegistry;
+
+    @Autowired
+    public StatisticsService(BowlerStatisticsRepository bowlerStatisticsRepository, BowlerRepository bowlerRepository,
+        PlayerRepository playerRepository, ActiveGameRegistry activeGameRegistry) {
+        this.bowlerStatisticsRepository = bowlerStatisticsRepository;
+        this.bowlerRepository = bowlerRepository;
+        this.playerRepository = playerRepository;
+        this.activeGameRegistry = activeGameRegistry;
+    }
+
+    /**
+     * Returns the statistics of the bowler.
+     *
+     * @param bowlerId Long id of the bowler
+     * @return {@link BowlerStatisticsRecord}
+     */
+    public BowlerStatisticsRecord getStatistics(Long bowlerId) {
+        Bowler bowler = bowlerRepository.findById(bowlerId)
+            .orElseThrow(() -> new BowlerNotFoundException("No bowler with the id " + bowlerId + " was found"));
+        BowlerStatistics statistics = bowlerStatisticsRepository.findById(bowlerId)
+            .orElseGet(() -> new BowlerStatistics(bowlerId));
+        int games = statistics.getGames();
+        int frames = statistics.getFrames();
+        return new BowlerStatisticsRecord(bowlerId, bowler.getName(), games,
+            ratio(statistics.getTotalScore(), games), statistics.getHighGame(),
+            ratio(100L * statistics.getStrikes(), frames), ratio(100L * statistics.getSpares(), frames),
+            ratio(100L * statistics.getOpens(), frames), Arrays.stream(statistics.getPinCounts()).boxed().toList());
+    }
+
+    /**
+     * Adds the finished game to the statistics of its bowler.
+     *
+     * @param event {@link GameFinishedEvent}
+     */
+    @EventListener
+    public void onGameFinished(GameFinishedEvent event) {
+        Long bowlerId = playerRepository.findById(event.userId()).map(Player::getBowlerId).orElse(null);
+        if (bowlerId == null) {
+            return;
+        }
+        Optional<ActiveGame> game = activeGameRegistry.find(event.userId());
+        Optional<BowlerStatistics> optionalStatistics = bowlerStatisticsRepository.findForUpdate(bowlerId);
+        if (game.isEmpty() || optionalStatistics.isEmpty()) {
+            log.warn("The game of the player {} was not added to the statistics of the bowler {}", event.userId(),
+                bowlerId);
+            return;
+        }
+        BowlerStatistics statistics = optionalStatistics.get();
+        addGame(statistics, game.get().getScoreCard(), event.totalScore());
+        bowlerStatisticsRepository.save(statistics);
+    }
+
+    static void addGame(BowlerStatistics statistics, ScoreCard scoreCard, int totalScore) {
+        statistics.setGames(statistics.getGames() + 1);
+        statistics.setTotalScore(statistics.getTotalScore() + totalScore);
+        statistics.setHighGame(Math.max(statistics.getHighGame(), totalScore));
+        statistics.setFrames(statistics.getFrames() + ScoreCard.FRAMES);
+        int[] pinCounts = statistics.getPinCounts().clone();
+        for (int frameNumber = 1; frameNumber <= ScoreCard.FRAMES; frameNumber++) {
+            int firstPins = scoreCard.getPins(frameNumber, 1);
+            if (firstPins == ScoreCard.MAX_PINS) {
+                statistics.setStrikes(statistics.getStrikes() + 1);
+            } else if (firstPins + scoreCard.getPins(frameNumber, 2) == ScoreCard.MAX_PINS) {
+                statistics.setSpares(statistics.getSpares() + 1);
+            } else {
+                statistics.setOpens(statistics.getOpens() + 1);
+            }
+            for (int rollNumber = 1; rollNumber <= ScoreCard.ROLLS_PER_FRAME; rollNumber++) {
+                if (scoreCard.hasRoll(frameNumber, rollNumber)) {
+                    pinCounts[scoreCard.getPins(frameNumber, rollNumber)]++;
+                }
+            }
+        }
+        statistics.setPinCounts(pinCounts);
+    }
+
+    private static double ratio(long value, int count) {
+        return count == 0 ? 0 : Math.round(value * 100.0 / count) / 100.0;
+    }
+}
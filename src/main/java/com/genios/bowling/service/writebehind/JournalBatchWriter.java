@@ -0,0 +1,108 @@
+package com.genios.bowling.service.writebehind;
+
+import com.genios.bowling.persistance.entity.Frame;
+import com.genios.bowling.persistance.entity.Roll;
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.Status;
+import com.genios.bowling.service.PlayerService;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Saves a batch of journal entries in one transaction. Frames of all the players in the batch are read with a single
+ * query, new frames and rolls get their ids from the sequences, so Hibernate sends the inserts and updates in JDBC
+ * batches when the transaction is flushed.
+ */
+@Component
+@ConditionalOnExpression("${bowling.write-behind.enabled:false} and '${bowling.storage:rows}'.equalsIgnoreCase('rows')")
+class JournalBatchWriter {
+
+    private final FrameRepository frameRepository;
+    private final RollRepository rollRepository;
+    private final PlayerService playerService;
+
+    @Autowired
+    JournalBatchWriter(FrameRepository frameRepository, RollRepository rollRepository, PlayerService playerService) {
+        this.frameRepository = frameRepository;
+        this.rollRepository = rollRepository;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Writes the entries in their order. Rolls that are already saved and games that are already finished are skipped,
+     * so a journal can be replayed more than once.
+     *
+     * @param entries list of {@link JournalEntry}
+     * @return ids of the saved rolls
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public List<SavedRoll> write(List<JournalEntry> entries) {
+        Set<Long> userIds = entries.stream()
+            .map(JournalEntry::userId)
+            .collect(Collectors.toSet());
+        Map<String, Frame> frames = new HashMap<>();
+        for (Frame frame : frameRepository.findAllWithRollsByUserIdIn(userIds)) {
+            frames.put(getKey(frame.getUserId(), frame.getFrameNumber()), frame);
+        }
+
+        List<SavedRoll> savedRolls = new ArrayList<>();
+        for (JournalEntry entry : entries) {
+            switch (entry.type()) {
+                case ROLL -> saveRoll(entry, getOrCreateFrame(entry, frames), savedRolls);
+                case FRAME -> {
+                    Frame frame = getOrCreateFrame(entry, frames);
+                    frame.setFrameScore(entry.value());
+                    frame.setFinalScore(entry.isFinalScore());
+                }
+                case FINISH -> finishGame(entry);
+            }
+        }
+        return savedRolls;
+    }
+
+    private void finishGame(JournalEntry entry) {
+        if (playerService.getPlayer(entry.userId()).isFinished()) {
+            return;
+        }
+        playerService.setFinalScore(entry.userId(), entry.value());
+    }
+
+    private void saveRoll(JournalEntry entry, Frame frame, List<SavedRoll> savedRolls) {
+        boolean isSaved = frame.getRolls().stream()
+            .anyMatch(r -> r.getRollNumber() == entry.number());
+        if (isSaved) {
+            return;
+        }
+        Roll roll = new Roll(frame.getId(), entry.number(), entry.value());
+        roll.setStatus(Status.fromString(entry.getRollStatus()));
+        roll.setFrame(frame);
+        rollRepository.save(roll);
+        frame.getRolls().add(roll);
+        savedRolls.add(new SavedRoll(entry.userId(), entry.frameNumber(), frame.getId(), entry.number(), roll.getId()));
+    }
+
+    private Frame getOrCreateFrame(JournalEntry entry, Map<String, Frame> frames) {
+        return frames.computeIfAbsent(getKey(entry.userId(), entry.frameNumber()), key -> {
+            Frame frame = new Frame();
+            frame.setUserId(entry.userId());
+            frame.setFrameNumber(entry.frameNumber());
+            frame.setFrameScore(0);
+            frame.setRolls(new ArrayList<>());
+            frameRepository.save(frame);
+            return frame;
+        });
+    }
+
+    private static String getKey(Long userId, int frameNumber) {
+        return userId + ":" + frameNumber;
+    }
+}
@@ -0,0 +1,51 @@
+package com.genios.bowling.service.writebehind;
+
+/**
+ * Single change waiting to be written to the database, one line of the write-behind journal.
+ *
+ * @param type {@link Type} of the change
+ * @param userId Long id of the player
+ * @param frameNumber int number of the frame, 0 for {@link Type#FINISH}
+ * @param number int roll number for {@link Type#ROLL}, 1 for a finalized {@link Type#FRAME}, otherwise 0
+ * @param value int pins of the roll, score of the frame or final score of the game
+ * @param status String status of the roll, empty if there is none
+ */
+public record JournalEntry(Type type, Long userId, int frameNumber, int number, int value, String status) {
+
+    public enum Type {
+        ROLL, FRAME, FINISH
+    }
+
+    public static JournalEntry roll(Long userId, int frameNumber, int rollNumber, int pins, String status) {
+        return new JournalEntry(Type.ROLL, userId, frameNumber, rollNumber, pins, status == null ? "" : status);
+    }
+
+    public static JournalEntry frame(Long userId, int frameNumber, int score, boolean isFinalScore) {
+        return new JournalEntry(Type.FRAME, userId, frameNumber, isFinalScore ? 1 : 0, score, "");
+    }
+
+    public static JournalEntry finish(Long userId, int score) {
+        return new JournalEntry(Type.FINISH, userId, 0, 0, score, "");
+    }
+
+    public boolean isFinalScore() {
+        return number == 1;
+    }
+
+    /**
+     * Returns the status of the roll or null if there is none.
+     */
+    public String getRollStatus() {
+        return status.isEmpty() ? null : status;
+    }
+
+    public String toLine() {
+        return type + "," + userId + "," + frameNumber + "," + number + "," + value + "," + status;
+    }
+
+    public static JournalEntry fromLine(String line) {
+        String[] parts = line.split(",", -1);
+        return new JournalEntry(Type.valueOf(parts[0]), Long.valueOf(parts[1]), Integer.parseInt(parts[2]),
+            Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), parts[5]);
+    }
+}
@@ -0,0 +1,8 @@
+package com.genios.bowling.service.writebehind;
+
+/**
+ * Ids generated for a roll and its frame when a write-behind batch was saved.
+ */
+record SavedRoll(Long userId, int frameNumber, Long frameId, int rollNumber, Long rollId) {
+
+}
@@ -0,0 +1,311 @@
+package com.genios.bowling.service.writebehind;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.scoring.ScoreCard;
+import com.genios.bowling.service.GameCommandExecutor;
+import com.genios.bowling.service.GameWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GameWriter} of the write-behind mode. Changes are appended to the local journal and queued once the request
+ * that made them is committed, the queue is written to the database in batches when it reaches the batch size or when
+ * the flush interval passes. Segments of the journal are deleted only after their batch is committed, whatever is left
+ * after a crash is replayed on start. The journal is forced to the disk by a thread of its own every sync interval, so
+ * the commands do not wait for an fsync and many rolls share one.
+ * The ids of the saved rows are handed to the games through their command queues, so the live state of a game is only
+ * ever changed by its own queue. Works only with the rows storage.
+ */
+@Component
+@ConditionalOnExpression("${bowling.write-behind.enabled:false} and '${bowling.storage:rows}'.equalsIgnoreCase('rows')")
+@Slf4j
+public class WriteBehindGameWriter implements GameWriter {
+
+    private final JournalBatchWriter batchWriter;
+    private final ActiveGameRegistry activeGameRegistry;
+    private final GameCommandExecutor commandExecutor;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final long syncIntervalMillis;
+    private final WriteBehindJournal journal;
+    private final ScheduledExecutorService scheduler;
+    private final ScheduledExecutorService syncScheduler;
+
+    private final Object lock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<Path> unsavedSegments = new ArrayList<>();
+    private List<JournalEntry> pending = new ArrayList<>();
+    private int failedAttempts;
+
+    @Autowired
+    WriteBehindGameWriter(BowlingConfiguration configuration, JournalBatchWriter batchWriter,
+        ActiveGameRegistry activeGameRegistry, GameCommandExecutor commandExecutor) {
+        BowlingConfiguration.WriteBehind writeBehind = configuration.getWriteBehind();
+        this.batchWriter = batchWriter;
+        this.activeGameRegistry = activeGameRegistry;
+        this.commandExecutor = commandExecutor;
+        this.batchSize = writeBehind.getBatchSize();
+        this.flushIntervalMillis = writeBehind.getFlushInterval().toMillis();
+        this.maxAttempts = Math.max(writeBehind.getMaxAttempts(), 1);
+        this.syncIntervalMillis = writeBehind.getSyncInterval().toMillis();
+        this.journal = new WriteBehindJournal(Path.of(writeBehind.getJournalDirectory()));
+        this.scheduler = newScheduler("write-behind");
+        this.syncScheduler = newScheduler("write-behind-sync");
+    }
+
+    @PostConstruct
+    void start() {
+        replay();
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+            TimeUnit.MILLISECONDS);
+        if (syncIntervalMillis > 0) {
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMillis, syncIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        syncScheduler.shutdown();
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        flush();
+        synchronized (lock) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public void saveRoll(ActiveGame game, int frameNumber, int rollNumber, int finalizedBefore) {
+        ScoreCard scoreCard = game.getScoreCard();
+        List<JournalEntry> entries = new ArrayList<>(3);
+        entries.add(JournalEntry.roll(game.getUserId(), frameNumber, rollNumber,
+            scoreCard.getPins(frameNumber, rollNumber), game.getStatus(frameNumber, rollNumber).getState()));
+        for (int i = finalizedBefore + 1; i <= scoreCard.getFinalizedFrames(); i++) {
+            entries.add(JournalEntry.frame(game.getUserId(), i, scoreCard.getFrameScore(i), true));
+        }
+        if (!scoreCard.isFinalized(frameNumber)) {
+            entries.add(JournalEntry.frame(game.getUserId(), frameNumber, scoreCard.getFrameScore(frameNumber), false));
+        }
+        append(entries);
+    }
+
+    @Override
+    public void saveRolls(ActiveGame game, List<Roll> rolls, int finalizedBefore) {
+        ScoreCard scoreCard = game.getScoreCard();
+        List<JournalEntry> entries = new ArrayList<>(rolls.size() * 2);
+        int lastFrameNumber = 0;
+        for (Roll roll : rolls) {
+            int frameNumber = roll.frameNumber();
+            entries.add(JournalEntry.roll(game.getUserId(), frameNumber, roll.rollNumber(), roll.pins(),
+                game.getStatus(frameNumber, roll.rollNumber()).getState()));
+            lastFrameNumber = Math.max(lastFrameNumber, frameNumber);
+        }
+        for (int i = finalizedBefore + 1; i <= lastFrameNumber; i++) {
+            if (scoreCard.hasFrame(i)) {
+                entries.add(JournalEntry.frame(game.getUserId(), i, scoreCard.getFrameScore(i),
+                    scoreCard.isFinalized(i)));
+            }
+        }
+        append(entries);
+    }
+
+    @Override
+    public void finishGame(ActiveGame game) {
+        append(List.of(JournalEntry.finish(game.getUserId(), game.getScoreCard().getTotalScore())));
+    }
+
+    /**
+     * Writes everything queued so far in one batch. If the batch fails, it is queued again and retried with the next
+     * flush. After {@code bowling.write-behind.max-attempts} failed attempts the entries are written player by player,
+     * the entries of the players that still fail are moved to a dead-letter segment of the journal and their games are
+     * dropped from memory, so they are read again from the database. Never throws, so a read that flushes first does
+     * not depend on the flush.
+     */
+    @Override
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushBatch();
+        } catch (RuntimeException e) {
+            log.error("Failed to flush the write-behind journal", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the segments left by the previous run, it is safe to replay a segment that was partially saved. Entries
+     * that cannot be written are moved to a dead-letter segment.
+     */
+    void replay() {
+        flushLock.lock();
+        try {
+            for (Path segment : journal.getClosedSegments()) {
+                List<JournalEntry> entries = WriteBehindJournal.read(segment);
+                log.info("Replaying {} entries of the write-behind journal {}", entries.size(), segment);
+                if (!entries.isEmpty()) {
+                    try {
+                        batchWriter.write(entries);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to replay the write-behind journal {}, writing it player by player",
+                            segment, e);
+                        writeByPlayer(entries);
+                    }
+                }
+                journal.delete(segment);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushBatch() {
+        List<JournalEntry> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+            unsavedSegments.add(journal.rotate());
+        }
+
+        List<SavedRoll> savedRolls;
+        try {
+            savedRolls = batchWriter.write(batch);
+        } catch (RuntimeException e) {
+            failedAttempts++;
+            if (failedAttempts < maxAttempts) {
+                synchronized (lock) {
+                    batch.addAll(pending);
+                    pending = batch;
+                }
+                log.warn("Failed to write the write-behind batch of {} entries, attempt {} of {}", batch.size(),
+                    failedAttempts, maxAttempts, e);
+                return;
+            }
+            log.error("Failed to write the write-behind batch of {} entries {} times, writing it player by player",
+                batch.size(), failedAttempts, e);
+            savedRolls = writeByPlayer(batch);
+        }
+
+        failedAttempts = 0;
+        unsavedSegments.forEach(journal::delete);
+        unsavedSegments.clear();
+        updateActiveGames(batch, savedRolls);
+    }
+
+    /**
+     * Writes the entries of every player in a transaction of its own. The entries of the players that fail are moved
+     * to a dead-letter segment, which is never replayed, and their games are dropped from memory.
+     */
+    private List<SavedRoll> writeByPlayer(List<JournalEntry> entries) {
+        Map<Long, List<JournalEntry>> entriesByUser = entries.stream()
+            .collect(Collectors.groupingBy(JournalEntry::userId, LinkedHashMap::new, Collectors.toList()));
+        List<SavedRoll> savedRolls = new ArrayList<>();
+        List<JournalEntry> failed = new ArrayList<>();
+        entriesByUser.forEach((userId, userEntries) -> {
+            try {
+                savedRolls.addAll(batchWriter.write(userEntries));
+            } catch (RuntimeException e) {
+                log.error("Failed to write the {} write-behind entries of the player {}", userEntries.size(), userId,
+                    e);
+                failed.addAll(userEntries);
+                commandExecutor.submit(userId, () -> activeGameRegistry.remove(userId));
+            }
+        });
+        if (!failed.isEmpty()) {
+            log.error("Moved {} write-behind entries to the dead-letter journal {}", failed.size(),
+                journal.deadLetter(failed));
+        }
+        return savedRolls;
+    }
+
+    /**
+     * Hands the entries to the journal once the current transaction is committed, so the changes of a request that
+     * failed are never written.
+     */
+    private void append(List<JournalEntry> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendNow(entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendNow(entries);
+            }
+        });
+    }
+
+    /**
+     * Writes the entries to the journal without waiting for the disk, the sync thread forces all the writes of its
+     * interval with one fsync. Without a sync interval the calling thread forces the journal itself.
+     */
+    private void appendNow(List<JournalEntry> entries) {
+        boolean isBatchFull;
+        synchronized (lock) {
+            journal.append(entries);
+            pending.addAll(entries);
+            isBatchFull = pending.size() >= batchSize;
+        }
+        if (syncIntervalMillis <= 0) {
+            journal.sync();
+        }
+        if (isBatchFull) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            journal.sync();
+        } catch (RuntimeException e) {
+            log.error("Failed to sync the write-behind journal, it will be retried", e);
+        }
+    }
+
+    private static ScheduledExecutorService newScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void updateActiveGames(List<JournalEntry> batch, List<SavedRoll> savedRolls) {
+        Map<Long, List<SavedRoll>> rollsByUser = savedRolls.stream()
+            .collect(Collectors.groupingBy(SavedRoll::userId));
+        rollsByUser.forEach((userId, rolls) -> commandExecutor.submit(userId,
+            () -> activeGameRegistry.find(userId).ifPresent(game -> {
+                rolls.forEach(savedRoll -> game.setSavedIds(savedRoll.frameNumber(), savedRoll.rollNumber(),
+                    savedRoll.frameId(), savedRoll.rollId()));
+                game.publish();
+            })));
+        batch.stream()
+            .filter(entry -> entry.type() == JournalEntry.Type.FINISH)
+            .map(JournalEntry::userId)
+            .forEach(userId -> commandExecutor.submit(userId, () -> activeGameRegistry.remove(userId)));
+    }
+}
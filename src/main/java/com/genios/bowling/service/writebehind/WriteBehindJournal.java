@@ -0,0 +1,180 @@
+package com.genios.bowling.service.writebehind;
+
+import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal of the changes accepted in write-behind mode. Appends only write to the file, the writes are
+ * forced to the disk together by {@link #sync()}, so many appends share one fsync. The journal is split into segments: the current segment is rotated when its entries are taken for a flush
+ * and deleted once they are in the database, segments left after a crash are replayed on the next start. Entries that
+ * cannot be saved are moved to dead-letter segments, which are kept but never replayed.
+ */
+@Slf4j
+class WriteBehindJournal {
+
+    private static final String PREFIX = "journal-";
+    private static final String DEAD_LETTER_PREFIX = "dead-letter-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private long segmentNumber;
+    private final AtomicBoolean isDirty = new AtomicBoolean();
+    private volatile Path segment;
+    private volatile FileChannel channel;
+
+    WriteBehindJournal(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the write-behind journal in " + directory, e);
+        }
+        List<Path> segments = getClosedSegments();
+        this.segmentNumber = segments.isEmpty() ? 0 : getSegmentNumber(segments.get(segments.size() - 1));
+        open();
+    }
+
+    /**
+     * Returns all the segments except the current one, oldest first. Right after the start these are the segments
+     * left by the previous run.
+     */
+    List<Path> getClosedSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(f -> f.getFileName().toString().startsWith(PREFIX))
+                .filter(f -> !f.equals(segment))
+                .sorted(Comparator.comparingLong(WriteBehindJournal::getSegmentNumber))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list the write-behind journal in " + directory, e);
+        }
+    }
+
+    void append(List<JournalEntry> entries) {
+        try {
+            write(channel, entries);
+            isDirty.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to the write-behind journal " + segment, e);
+        }
+    }
+
+    /**
+     * Forces everything appended to the current segment since the last call to the disk. Safe to call from another
+     * thread than the appends: a segment rotated in the meantime was already forced when it was closed.
+     */
+    void sync() {
+        if (!isDirty.getAndSet(false)) {
+            return;
+        }
+        FileChannel current = channel;
+        try {
+            current.force(false);
+        } catch (ClosedChannelException e) {
+            log.debug("The write-behind journal was rotated before it was synced");
+        } catch (IOException e) {
+            isDirty.set(true);
+            throw new UncheckedIOException("Cannot sync the write-behind journal " + segment, e);
+        }
+    }
+
+    /**
+     * Writes entries that cannot be saved to a dead-letter segment of their own. Dead-letter segments are kept for a
+     * manual check and never replayed.
+     *
+     * @param entries list of {@link JournalEntry}
+     * @return the dead-letter segment
+     */
+    Path deadLetter(List<JournalEntry> entries) {
+        Path deadLetter = directory.resolve(DEAD_LETTER_PREFIX + segmentNumber + SUFFIX);
+        try (FileChannel deadLetterChannel = FileChannel.open(deadLetter, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            write(deadLetterChannel, entries);
+            deadLetterChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write to the dead-letter journal " + deadLetter, e);
+        }
+        return deadLetter;
+    }
+
+    /**
+     * Closes the current segment and starts a new one.
+     *
+     * @return the closed segment
+     */
+    Path rotate() {
+        Path closed = segment;
+        close();
+        open();
+        return closed;
+    }
+
+    void delete(Path closedSegment) {
+        try {
+            Files.deleteIfExists(closedSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete the write-behind journal " + closedSegment, e);
+        }
+    }
+
+    /**
+     * Forces the current segment to the disk and closes it.
+     */
+    void close() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close the write-behind journal " + segment, e);
+        }
+    }
+
+    static List<JournalEntry> read(Path closedSegment) {
+        try (Stream<String> lines = Files.lines(closedSegment, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank())
+                .map(JournalEntry::fromLine)
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the write-behind journal " + closedSegment, e);
+        }
+    }
+
+    private static void write(FileChannel target, List<JournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(entry.toLine()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private void open() {
+        segmentNumber++;
+        segment = directory.resolve(PREFIX + segmentNumber + SUFFIX);
+        try {
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the write-behind journal " + segment, e);
+        }
+    }
+
+    private static long getSegmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,52 @@
+-- Query plans of the repository queries. Run with psql before and after a migration and compare:
+--   psql -d bowling -v user_id=1 -f src/main/resources/db/explain/query-plans.sql > plans.txt
+
+-- PlayerRepository.findUnfinishedLanes
+explain (analyze, buffers)
+select p.id, p.lane from player p where p.is_finished = false order by p.id;
+
+-- PlayerRepository.findTopScores, first page
+explain (analyze, buffers)
+select p.id, p.name, p.total_score from player p
+where p.is_finished = true and p.total_score is not null
+order by p.total_score desc, p.id limit 20;
+
+-- PlayerRepository.findScoresFinishedSince, the last 30 days
+explain (analyze, buffers)
+select p.id, p.name, p.total_score, p.finished_at from player p
+where p.is_finished = true and p.total_score is not null and p.finished_at >= now() - interval '30 days'
+order by p.finished_at, p.id;
+
+-- PlayerRepository.findScoreRows
+explain (analyze, buffers)
+select p.id, p.name, p.total_score, p.is_finished, f.id, f.frame_number, f.is_final_score, f.frame_score,
+       r.id, r.roll_number, r.pins, r.status
+from player p left join frame f on f.user_id = p.id left join roll r on r.frame_id = f.id
+where p.id = :user_id order by f.frame_number, r.roll_number;
+
+-- PlayerRepository.streamFinishedScoreRows
+explain (analyze, buffers)
+select p.id, p.name, p.total_score, p.is_finished, f.id, f.frame_number, f.is_final_score, f.frame_score,
+       r.id, r.roll_number, r.pins, r.status
+from player p left join frame f on f.user_id = p.id left join roll r on r.frame_id = f.id
+where p.is_finished = true order by p.id, f.frame_number, r.roll_number;
+
+-- FrameRepository.findOneByUserIdAndFrameNumber
+explain (analyze, buffers)
+select * from frame f where f.user_id = :user_id and f.frame_number = 1;
+
+-- FrameRepository.findAllWithRollsByUserIdIn
+explain (analyze, buffers)
+select * from frame f left join roll r on r.frame_id = f.id where f.user_id in (:user_id);
+
+-- RollRepository.findOneByFrameIdAndRollNumber
+explain (analyze, buffers)
+select * from roll r where r.frame_id = (select min(id) from frame where user_id = :user_id) and r.roll_number = 1;
+
+-- RollEventRepository.findByUserIdAndSequenceNumberGreaterThanOrderBySequenceNumber
+explain (analyze, buffers)
+select * from roll_event e where e.user_id = :user_id and e.sequence_number > 0 order by e.sequence_number;
+
+-- StoredGameSnapshotRepository.findFirstByUserIdOrderBySequenceNumberDesc
+explain (analyze, buffers)
+select * from game_snapshot s where s.user_id = :user_id order by s.sequence_number desc limit 1;
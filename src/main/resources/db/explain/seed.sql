@@ -0,0 +1,39 @@
+-- Games for query-plans.sql: 100 000 games with 10 frames of 2 rolls each, every 50th game unfinished on a lane with 5
+-- frames, and the events and a snapshot of every 10th game. Run once on an empty database migrated by Flyway:
+--   psql -d bowling -f src/main/resources/db/explain/seed.sql
+
+insert into player (id, name, total_score, is_finished, lane, started_at, finished_at)
+select g, 'Player ' || g,
+       case when g % 50 = 0 then null else (g * 7919) % 301 end,
+       g % 50 <> 0,
+       case when g % 50 = 0 then g / 50 end,
+       now() - (g % 365) * interval '1 day' - interval '1 hour',
+       case when g % 50 <> 0 then now() - (g % 365) * interval '1 day' end
+from generate_series(1, 100000) g;
+
+insert into frame (id, user_id, frame_number, is_final_score, frame_score)
+select (p.id - 1) * 10 + n, p.id, n, p.is_finished, n * 9
+from player p cross join generate_series(1, 10) n
+where p.is_finished or n <= 5;
+
+insert into roll (id, frame_id, roll_number, pins, status)
+select (f.id - 1) * 2 + r, f.id, r, case when r = 1 then f.id % 6 else f.id % 5 end, 0
+from frame f cross join generate_series(1, 2) r;
+
+insert into roll_event (id, user_id, sequence_number, frame_number, roll_number, pins, created_at)
+select (p.id / 10 - 1) * 20 + s, p.id, s, (s + 1) / 2, 2 - s % 2, s % 5, p.started_at
+from player p cross join generate_series(1, 20) s
+where p.id % 10 = 0;
+
+insert into game_snapshot (id, user_id, sequence_number, pins, created_at)
+select p.id / 10, p.id, 20, decode(repeat('00', 30), 'hex'), p.started_at
+from player p
+where p.id % 10 = 0;
+
+select setval(pg_get_serial_sequence('player', 'id'), (select max(id) from player));
+select setval('frame_seq', (select max(id) from frame) + 50);
+select setval('roll_seq', (select max(id) from roll) + 50);
+select setval('roll_event_seq', (select max(id) from roll_event) + 50);
+select setval('game_snapshot_seq', (select max(id) from game_snapshot) + 50);
+
+analyze;
@@ -0,0 +1,6 @@
+-- Start and finish times of the games, games finished before this migration and imported games have none.
+alter table player add column started_at timestamp with time zone;
+alter table player add column finished_at timestamp with time zone;
+
+-- PlayerRepository.findScoresFinishedSince
+create index player_finished_at_idx on player (finished_at) where is_finished and finished_at is not null;
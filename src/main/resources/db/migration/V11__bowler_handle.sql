@@ -0,0 +1,7 @@
+-- Bowlers are told apart by a unique handle instead of their names, so two bowlers can share a name. Bowlers created
+-- so far were found by their names, which become their handles.
+alter table bowler add column handle varchar(255);
+update bowler set handle = name;
+alter table bowler alter column handle set not null;
+alter table bowler add constraint bowler_handle_key unique (handle);
+alter table bowler drop constraint bowler_name_key;
@@ -0,0 +1,28 @@
+-- Schema of the first release as Hibernate created it. A database created before the migrations is baselined at this
+-- version on the first start and gets every later migration, which is why they do not fail on what an older Hibernate
+-- update may already have added.
+
+create table player (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    total_score integer check (total_score between 0 and 300),
+    is_finished boolean not null
+);
+
+create table frame (
+    id bigint generated by default as identity primary key,
+    frame_number integer check (frame_number between 1 and 10),
+    user_id bigint references player (id),
+    is_final_score boolean default false not null,
+    frame_score integer check (frame_score between 0 and 300),
+    unique (user_id, frame_number)
+);
+
+create table roll (
+    id bigint generated by default as identity primary key,
+    frame_id bigint not null references frame (id),
+    roll_number integer not null check (roll_number between 1 and 3),
+    pins integer not null check (pins between 0 and 10),
+    status varchar(255),
+    unique (frame_id, roll_number)
+);
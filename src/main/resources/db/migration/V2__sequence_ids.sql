@@ -0,0 +1,6 @@
+-- Frames and rolls get their ids from sequences instead of identity columns, so Hibernate can batch the inserts. The
+-- sequences start above the saved ids, so new ids do not collide with them.
+create sequence if not exists frame_seq start with 1 increment by 50;
+create sequence if not exists roll_seq start with 1 increment by 50;
+select setval('frame_seq', coalesce((select max(id) from frame), 0) + 50);
+select setval('roll_seq', coalesce((select max(id) from roll), 0) + 50);
@@ -0,0 +1,2 @@
+-- Lane of an unfinished game.
+alter table player add column if not exists lane integer check (lane >= 1);
@@ -0,0 +1,16 @@
+-- The status of a roll is stored as a small numeric code instead of a string: 0 none, 1 strike, 2 spare, 3 miss.
+do $$
+begin
+    if (select data_type from information_schema.columns
+        where table_name = 'roll' and column_name = 'status') <> 'smallint' then
+        alter table roll alter column status type smallint using case status
+            when 'X' then 1
+            when '/' then 2
+            when '-' then 3
+            else 0
+        end;
+    end if;
+end $$;
+alter table roll alter column status set default 0;
+update roll set status = 0 where status is null;
+alter table roll alter column status set not null;
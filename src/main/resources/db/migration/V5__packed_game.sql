@@ -0,0 +1,6 @@
+-- Table of the packed storage, bowling.storage=packed: all the rolls of a game in one row, three slots per frame,
+-- -1 for the rolls not made.
+create table if not exists packed_game (
+    user_id bigint primary key references player (id),
+    pins bytea not null
+);
@@ -0,0 +1,23 @@
+-- Tables of the events storage, bowling.storage=events: the append-only log of the rolls and the snapshots of the
+-- games folded from it.
+create sequence if not exists roll_event_seq start with 1 increment by 50;
+create sequence if not exists game_snapshot_seq start with 1 increment by 50;
+create table if not exists roll_event (
+    id bigint primary key,
+    user_id bigint not null references player (id),
+    sequence_number integer not null,
+    frame_number integer not null check (frame_number between 1 and 10),
+    roll_number integer not null check (roll_number between 1 and 3),
+    pins integer not null check (pins between 0 and 10),
+    created_at timestamp(6) with time zone not null,
+    unique (user_id, sequence_number),
+    unique (user_id, frame_number, roll_number)
+);
+create table if not exists game_snapshot (
+    id bigint primary key,
+    user_id bigint not null references player (id),
+    sequence_number integer not null,
+    pins bytea not null,
+    created_at timestamp(6) with time zone not null,
+    unique (user_id, sequence_number)
+);
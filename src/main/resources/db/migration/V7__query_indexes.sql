@@ -0,0 +1,13 @@
+-- Indexes for the queries of the repositories. Lookups of frames, rolls, roll events and snapshots by their game are
+-- already served by their unique constraints, whose first column is the owner.
+
+-- PlayerRepository.findUnfinishedLanes: the few games on the lanes, ordered by id.
+create index player_active_idx on player (id) include (lane) where is_finished = false;
+
+-- PlayerRepository.findTopScores: the leaderboard read at start and for every page.
+create index player_top_scores_idx on player (total_score desc, id) include (name)
+    where is_finished = true and total_score is not null;
+
+-- PlayerRepository.streamFinishedScoreRows, PackedGameRepository and RollEventRepository streams: finished games
+-- ordered by id.
+create index player_finished_idx on player (id) where is_finished = true;
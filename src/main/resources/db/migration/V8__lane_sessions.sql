@@ -0,0 +1,14 @@
+-- Teams sharing one lane: a session per team, every bowler is a player of the session with the order of the turns.
+create table lane_session (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null,
+    lane integer check (lane >= 1),
+    is_finished boolean not null,
+    total_score integer check (total_score >= 0)
+);
+
+alter table player add column session_id bigint references lane_session (id);
+alter table player add column rotation_order integer check (rotation_order >= 1);
+
+-- PlayerRepository.findBySessionIdOrderByRotationOrder
+create index player_session_idx on player (session_id, rotation_order) where session_id is not null;
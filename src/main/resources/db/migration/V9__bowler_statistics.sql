@@ -0,0 +1,22 @@
+-- Bowlers and the running totals of their finished games, every game of a bowler is a player row.
+create table bowler (
+    id bigint generated by default as identity primary key,
+    name varchar(255) not null unique
+);
+
+create table bowler_statistics (
+    bowler_id bigint primary key references bowler (id),
+    games integer not null,
+    total_score bigint not null,
+    high_game integer not null,
+    frames integer not null,
+    strikes integer not null,
+    spares integer not null,
+    opens integer not null,
+    pin_counts integer array not null
+);
+
+alter table player add column bowler_id bigint references bowler (id);
+
+-- PlayerRepository.findFinishedGames
+create index player_bowler_idx on player (bowler_id, id) where is_finished and bowler_id is not null;
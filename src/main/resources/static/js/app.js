@@ -12,48 +12,94 @@ document.addEventListener('DOMContentLoaded', function () {
 
   const nextFrameInfoDiv = document.getElementById('nextFrameInfo');
   const playerScoreStatsDiv = document.getElementById('playerScoreStats');
-  let refreshInterval; // Store the interval for refreshing statistics
+  let scoreStream; // Stream of the score changes pushed by the server
+  let statistics; // Last known score of the player
 
-  // Function to fetch and display player score statistics
-  function displayPlayerScoreStatistics(playerId) {
-    fetch(`api/players/${playerId}/scores`, {
-      method: 'GET',
-    })
-    .then(response => response.json())
-    .then(statistics => {
-      playerScoreStatsDiv.innerHTML = `
-      <h2>Player Score Statistics</h2>
-      <table border="1">
-        <tr>
-          ${statistics.frames.map(frame => `<td>Frame ${frame.frameNumber}</td>`).join('')}
-        </tr>
-        <tr>
-          ${statistics.frames.map(frame => {
-        let frameContent = '';
-        if (frame.rolls && frame.rolls.length > 0) {
-          frameContent += frame.rolls.map(roll => {
-            if (roll.status) {
-              return `${roll.status} `;
-            } else if (roll.pins !== undefined && roll.pins !== null) {
-              return `${roll.pins} `;
-            }
-            return ''; // Empty space if neither status nor pins
-          }).join('');
-        }
-        return `<td>${frameContent}</td>`;
-      }).join('')}
-        </tr>
-        <tr>
-          ${statistics.frames.map(frame => `<td>${frame.isFinalScore ? frame.score : ''}</td>`).join('')}
-        </tr>
-      </table>
-      `;
-      // Make the div visible
-      playerScoreStatsDiv.style.display = 'block';
-    })
-    .catch(error => {
-      console.error('Error fetching player score statistics:', error);
+  // Function to display player score statistics
+  function displayPlayerScoreStatistics() {
+    playerScoreStatsDiv.innerHTML = `
+    <h2>Player Score Statistics</h2>
+    <table border="1">
+      <tr>
+        ${statistics.frames.map(frame => `<td>Frame ${frame.frameNumber}</td>`).join('')}
+      </tr>
+      <tr>
+        ${statistics.frames.map(frame => {
+      let frameContent = '';
+      if (frame.rolls && frame.rolls.length > 0) {
+        frameContent += frame.rolls.map(roll => {
+          if (roll.status) {
+            return `${roll.status} `;
+          } else if (roll.pins !== undefined && roll.pins !== null) {
+            return `${roll.pins} `;
+          }
+          return ''; // Empty space if neither status nor pins
+        }).join('');
+      }
+      return `<td>${frameContent}</td>`;
+    }).join('')}
+      </tr>
+      <tr>
+        ${statistics.frames.map(frame => `<td>${frame.isFinalScore ? frame.score : ''}</td>`).join('')}
+      </tr>
+    </table>
+    `;
+    // Make the div visible
+    playerScoreStatsDiv.style.display = 'block';
+  }
+
+  // Function to apply a saved roll to the last known score, a roll that is already there is skipped
+  function applyScoreDelta(delta) {
+    let frame = statistics.frames.find(f => f.frameNumber === delta.frameNumber);
+    if (!frame) {
+      frame = { frameNumber: delta.frameNumber, isFinalScore: false, score: null, rolls: [] };
+      statistics.frames.push(frame);
+      statistics.frames.sort((a, b) => a.frameNumber - b.frameNumber);
+    }
+    if (!frame.rolls.some(roll => roll.rollNumber === delta.rollNumber)) {
+      frame.rolls.push({ rollNumber: delta.rollNumber, pins: delta.pins, status: delta.status });
+      frame.rolls.sort((a, b) => a.rollNumber - b.rollNumber);
+    }
+    delta.frames.forEach(total => {
+      const finalized = statistics.frames.find(f => f.frameNumber === total.frameNumber);
+      if (finalized) {
+        finalized.isFinalScore = total.isFinalScore;
+        finalized.score = total.score;
+      }
     });
+    statistics.isGameOver = delta.isGameOver;
+    statistics.finalScore = delta.finalScore;
+  }
+
+  // Function to subscribe to the score changes of the player instead of polling them
+  function subscribeToPlayerScoreStatistics(playerId) {
+    const pendingDeltas = []; // Rolls pushed before the current score arrived
+    statistics = undefined;
+    scoreStream = new EventSource(`api/players/${playerId}/scores/stream`);
+    scoreStream.addEventListener('score', event => {
+      statistics = JSON.parse(event.data);
+      pendingDeltas.forEach(applyScoreDelta);
+      pendingDeltas.length = 0;
+      displayPlayerScoreStatistics();
+      if (statistics.isGameOver) {
+        scoreStream.close();
+      }
+    });
+    scoreStream.addEventListener('roll', event => {
+      const delta = JSON.parse(event.data);
+      if (statistics === undefined) {
+        pendingDeltas.push(delta);
+        return;
+      }
+      applyScoreDelta(delta);
+      displayPlayerScoreStatistics();
+      if (delta.isGameOver) {
+        scoreStream.close();
+      }
+    });
+    scoreStream.onerror = error => {
+      console.error('Error streaming player score statistics:', error);
+    };
   }
 
   // Function to check if the game is over
@@ -67,10 +113,6 @@ document.addEventListener('DOMContentLoaded', function () {
       if (isGameOver) {
         // Game is over, hide the submit roll form
         submitRollForm.style.display = 'none';
-        clearInterval(refreshInterval); // Stop refreshing statistics
-
-        // Fetch and display final statistics
-        displayPlayerScoreStatistics(playerId);
       }
     })
     .catch(error => {
@@ -94,7 +136,7 @@ document.addEventListener('DOMContentLoaded', function () {
       const playerId = data.id;
 
       // Display player ID and get next frame info
-      nextFrameInfoDiv.textContent = `Player: ${playerName}`;
+      nextFrameInfoDiv.textContent = `Player: ${playerName}, lane: ${data.lane}`;
       createPlayerForm.style.display = 'none';
       submitRollForm.style.display = 'block';
 
@@ -108,11 +150,8 @@ document.addEventListener('DOMContentLoaded', function () {
         frameNumberSpan.textContent = frameInfo.frameNumber;
         rollNumberSpan.textContent = frameInfo.rollNumber;
 
-        // Display player score statistics
-        displayPlayerScoreStatistics(playerId);
-
-        // Start refreshing player score statistics every 5 seconds
-        refreshInterval = setInterval(() => displayPlayerScoreStatistics(playerId), 5000);
+        // Display player score statistics, they are pushed by the server after every roll
+        subscribeToPlayerScoreStatistics(playerId);
 
         // Event Listener for Submit Roll Button
         submitRollBtn.addEventListener('click', function () {
@@ -1,42 +1,83 @@
 // top.js
 document.addEventListener('DOMContentLoaded', function () {
   const topScoresDiv = document.getElementById('topScores');
+  const dailyScoresDiv = document.getElementById('dailyScores');
 
-  // Function to fetch and display top scores
+  let scores = [];
+  let dailyScores = [];
+
+  // Function to display the best games finished today
+  function displayDailyScores() {
+    dailyScoresDiv.innerHTML = `
+      <h2>Today's Best</h2>
+      <table>
+        <thead>
+          <tr>
+            <th>Player Name</th>
+            <th>Total Score</th>
+          </tr>
+        </thead>
+        <tbody>
+          ${dailyScores.map(score => `
+            <tr>
+              <td>${score.name}</td>
+              <td>${score.totalScore}</td>
+            </tr>
+          `).join('')}
+        </tbody>
+      </table>
+    `;
+  }
+
+  // Function to load the best games finished today, the day is rolled over by the server
+  function loadDailyScores() {
+    fetch('api/scores?window=TODAY&size=10')
+      .then(response => response.json())
+      .then(data => {
+        dailyScores = data;
+        displayDailyScores();
+      })
+      .catch(error => console.error('Error loading the scores of today:', error));
+  }
+
+  // Function to display top scores
   function displayTopScores() {
-    fetch('api/scores', {
-      method: 'GET',
-      headers: {
-        'Accept': 'application/json',
-      },
-    })
-    .then(response => response.json())
-    .then(scores => {
-      topScoresDiv.innerHTML = `
-        <h2>Top Scores</h2>
-        <table>
-          <thead>
+    topScoresDiv.innerHTML = `
+      <h2>Top Scores</h2>
+      <table>
+        <thead>
+          <tr>
+            <th>Player Name</th>
+            <th>Total Score</th>
+          </tr>
+        </thead>
+        <tbody>
+          ${scores.map(score => `
             <tr>
-              <th>Player Name</th>
-              <th>Total Score</th>
+              <td>${score.name}</td>
+              <td>${score.totalScore}</td>
             </tr>
-          </thead>
-          <tbody>
-            ${scores.map(score => `
-              <tr>
-                <td>${score.name}</td>
-                <td>${score.totalScore}</td>
-              </tr>
-            `).join('')}
-          </tbody>
-        </table>
-      `;
-    })
-    .catch(error => {
-      console.error('Error fetching top scores:', error);
-    });
+          `).join('')}
+        </tbody>
+      </table>
+    `;
   }
 
-  // Call the function to initially display top scores
-  displayTopScores();
+  // Subscribe to the score board, the current scores come first and every finished game is pushed afterwards
+  const scoreStream = new EventSource('api/scores/stream');
+  scoreStream.addEventListener('scores', event => {
+    scores = JSON.parse(event.data);
+    displayTopScores();
+    loadDailyScores();
+  });
+  scoreStream.addEventListener('score', event => {
+    const score = JSON.parse(event.data);
+    const index = scores.findIndex(s => s.totalScore < score.totalScore);
+    scores.splice(index === -1 ? scores.length : index, 0, score);
+    displayTopScores();
+    loadDailyScores();
+  });
+  scoreStream.onerror = error => {
+    console.error('Error streaming top scores:', error);
+  };
 });
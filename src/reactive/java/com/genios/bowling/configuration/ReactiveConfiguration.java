@@ -0,0 +1,57 @@
+package com.genios.bowling.configuration;
+
+import com.genios.bowling.persistance.converter.StatusReadingConverter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import java.util.List;
+
+/**
+ * Serves the scoring API with WebFlux on Netty and reads and writes the games with R2DBC, switched on with the
+ * {@code reactive} profile. An idle connection of a spectator costs a subscription instead of a thread.
+ * <p>
+ * JPA stays set up for the lanes and the other parts of the application. Spring Boot backs off from the JDBC data
+ * source when there is an R2DBC connection factory, so it is created here, and the R2DBC transaction manager is not
+ * registered as a bean, it would replace the one of JPA. The reactive services use it through a
+ * {@link TransactionalOperator}.
+ */
+@Configuration
+@Profile(Profiles.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfiguration {
+
+    /**
+     * Tomcat is on the classpath for the servlet stack, without this bean it would serve the reactive stack too.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory),
+            List.of(new StatusReadingConverter()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.genios.bowling.controller;
+
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.record.request.Player;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.GameOver;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.record.response.PlayerCreated;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.service.reactive.ReactiveGameService;
+import com.genios.bowling.service.reactive.ReactiveScoreStreamService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Same endpoints and records as {@link BowlingController}, served by WebFlux with the {@code reactive} profile.
+ */
+@RestController
+@RequestMapping("/api")
+@Profile(Profiles.REACTIVE)
+@Validated
+@Slf4j
+public class ReactiveBowlingController {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final ReactiveGameService gameService;
+    private final ReactiveScoreStreamService scoreStreamService;
+
+    @Autowired
+    public ReactiveBowlingController(ReactiveGameService gameService, ReactiveScoreStreamService scoreStreamService) {
+        this.gameService = gameService;
+        this.scoreStreamService = scoreStreamService;
+    }
+
+    @PostMapping(value = "/players", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PlayerCreated>> create(@RequestBody @Valid @NotNull Player player) {
+        log.info("Received a request to create a player: {}", player.name());
+        return gameService.createPlayer(player.name())
+            .map(result -> ResponseEntity.status(HttpStatus.CREATED).body(result));
+    }
+
+    @GetMapping(value = "/players/{id}/frames", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<NextFrameRecord> getNextFrame(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request to get the next frame for the player with id: {}", id);
+        return gameService.getNextFrame(id);
+    }
+
+    @PostMapping(value = "/players/{id}/frames", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Void>> saveRoll(@PathVariable @NotNull @Positive Long id,
+        @RequestBody @Valid @NotNull Roll roll) {
+        log.info("Received a request save the roll for the player with id: {}", id);
+        return gameService.saveRollResults(id, List.of(roll))
+            .map(score -> ResponseEntity.status(HttpStatus.OK).build());
+    }
+
+    @PostMapping(value = "/players/{id}/frames:batch", produces = MediaType.APPLICATION_JSON_VALUE,
+        consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<IntermediateScore> saveRolls(@PathVariable @NotNull @Positive Long id,
+        @RequestBody @NotEmpty List<@Valid @NotNull Roll> rolls) {
+        log.info("Received a request to save {} rolls for the player with id: {}", rolls.size(), id);
+        return gameService.saveRollResults(id, rolls);
+    }
+
+    @GetMapping(value = "/players/{id}/game", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<GameOver> isGameOver(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request check if the game is over for the player with id: {}", id);
+        return gameService.isGameOver(id).map(GameOver::new);
+    }
+
+    @GetMapping(value = "/players/{id}/scores", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<IntermediateScore> getPlayerScore(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request get the scores for the player with id: {}", id);
+        return gameService.getIntermediateScore(id);
+    }
+
+    @GetMapping(value = "/players/{id}/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamPlayerScore(@PathVariable @NotNull @Positive Long id) {
+        log.info("Received a request to stream the scores for the player with id: {}", id);
+        return scoreStreamService.subscribeToGame(id, gameService.getIntermediateScore(id));
+    }
+
+    @GetMapping(value = "/scores", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<PlayerScore> getTopScores(@RequestParam(defaultValue = "0") int page,
+        @RequestParam(required = false) Integer size, @RequestParam(defaultValue = "ALL_TIME") ScoreWindow window) {
+        log.info("Received a request get the top scores for all players, window: {}, page: {}, size: {}", window, page,
+            size);
+        return gameService.getTopPlayerScores(window, page, size == null ? DEFAULT_PAGE_SIZE : size);
+    }
+
+    @GetMapping(value = "/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamTopScores() {
+        log.info("Received a request to stream the top scores for all players");
+        return scoreStreamService.subscribeToScoreBoard(
+            gameService.getTopPlayerScores(0, DEFAULT_PAGE_SIZE).collectList());
+    }
+}
@@ -0,0 +1,18 @@
+package com.genios.bowling.persistance.converter;
+
+import com.genios.bowling.record.Status;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+/**
+ * Reads the numeric code of the {@link Status} of a roll in the reactive stack, the same way {@link StatusConverter}
+ * does for JPA.
+ */
+@ReadingConverter
+public class StatusReadingConverter implements Converter<Short, Status> {
+
+    @Override
+    public Status convert(Short code) {
+        return Status.fromCode(code);
+    }
+}
@@ -0,0 +1,12 @@
+package com.genios.bowling.persistance.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of the frame table as it is written by the reactive stack.
+ */
+@Table("frame")
+public record FrameRow(@Id Long id, Integer frameNumber, Long userId, boolean isFinalScore, Integer frameScore) {
+
+}
@@ -0,0 +1,18 @@
+package com.genios.bowling.persistance.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.Instant;
+
+/**
+ * Row of the player table as it is read and written by the reactive stack. The sessions of the teams are left to the
+ * servlet stack.
+ */
+@Table("player")
+public record PlayerRow(@Id Long id, String name, Integer totalScore, boolean isFinished, Integer lane,
+    Instant startedAt) {
+
+    public PlayerRow withId(Long id) {
+        return new PlayerRow(id, name, totalScore, isFinished, lane, startedAt);
+    }
+}
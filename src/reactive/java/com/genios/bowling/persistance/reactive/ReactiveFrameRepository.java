@@ -0,0 +1,28 @@
+package com.genios.bowling.persistance.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveFrameRepository extends R2dbcRepository<FrameRow, Long> {
+
+    /**
+     * Returns the next value of the sequence Hibernate allocates the ids of the frames from, see
+     * {@link com.genios.bowling.service.reactive.SequenceIds}.
+     */
+    @Query("select nextval('frame_seq')")
+    Mono<Long> nextSequenceValue();
+
+    @Modifying
+    @Query("insert into frame (id, frame_number, user_id, is_final_score, frame_score) "
+        + "values (:id, :frameNumber, :userId, :isFinalScore, :frameScore)")
+    Mono<Integer> insert(@Param("id") Long id, @Param("frameNumber") int frameNumber, @Param("userId") Long userId,
+        @Param("isFinalScore") boolean isFinalScore, @Param("frameScore") int frameScore);
+
+    @Modifying
+    @Query("update frame set frame_score = :frameScore, is_final_score = :isFinalScore where id = :id")
+    Mono<Integer> updateScore(@Param("id") Long id, @Param("frameScore") int frameScore,
+        @Param("isFinalScore") boolean isFinalScore);
+}
@@ -0,0 +1,39 @@
+package com.genios.bowling.persistance.reactive;
+
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.record.response.PlayerScore;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.Instant;
+
+public interface ReactivePlayerRepository extends R2dbcRepository<PlayerRow, Long> {
+
+    /**
+     * Same rows as {@link com.genios.bowling.persistance.repository.PlayerRepository#findScoreRows(Long)}, the
+     * columns are named after the properties of {@link ScoreRow}.
+     */
+    @Query("select p.id as user_id, p.name, p.total_score, p.is_finished, f.id as frame_id, f.frame_number, "
+        + "f.is_final_score, f.frame_score, r.id as roll_id, r.roll_number, r.pins, r.status "
+        + "from player p left join frame f on f.user_id = p.id left join roll r on r.frame_id = f.id "
+        + "where p.id = :userId order by f.frame_number, r.roll_number")
+    Flux<ScoreRow> findScoreRows(@Param("userId") Long userId);
+
+    @Query("select p.name, p.total_score from player p where p.is_finished = true and p.total_score is not null "
+        + "order by p.total_score desc, p.id limit :limit offset :offset")
+    Flux<PlayerScore> findTopScores(@Param("limit") int limit, @Param("offset") long offset);
+
+    @Query("select p.name, p.total_score from player p where p.is_finished = true and p.total_score is not null "
+        + "and p.finished_at >= :since order by p.total_score desc, p.finished_at, p.id limit :limit offset :offset")
+    Flux<PlayerScore> findTopScoresSince(@Param("since") Instant since, @Param("limit") int limit,
+        @Param("offset") long offset);
+
+    @Modifying
+    @Query("update player set total_score = :totalScore, is_finished = true, finished_at = :finishedAt "
+        + "where id = :id")
+    Mono<Integer> finish(@Param("id") Long id, @Param("totalScore") int totalScore,
+        @Param("finishedAt") Instant finishedAt);
+}
@@ -0,0 +1,23 @@
+package com.genios.bowling.persistance.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRollRepository extends R2dbcRepository<RollRow, Long> {
+
+    /**
+     * Returns the next value of the sequence Hibernate allocates the ids of the rolls from, see
+     * {@link com.genios.bowling.service.reactive.SequenceIds}.
+     */
+    @Query("select nextval('roll_seq')")
+    Mono<Long> nextSequenceValue();
+
+    @Modifying
+    @Query("insert into roll (id, frame_id, roll_number, pins, status) "
+        + "values (:id, :frameId, :rollNumber, :pins, :status)")
+    Mono<Integer> insert(@Param("id") Long id, @Param("frameId") Long frameId, @Param("rollNumber") int rollNumber,
+        @Param("pins") int pins, @Param("status") short status);
+}
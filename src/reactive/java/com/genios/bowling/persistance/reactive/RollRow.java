@@ -0,0 +1,12 @@
+package com.genios.bowling.persistance.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of the roll table as it is written by the reactive stack, the status is stored as its numeric code.
+ */
+@Table("roll")
+public record RollRow(@Id Long id, Long frameId, Integer rollNumber, Integer pins, short status) {
+
+}
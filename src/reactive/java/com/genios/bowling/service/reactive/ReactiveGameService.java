@@ -0,0 +1,274 @@
+package com.genios.bowling.service.reactive;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.exception.GameAlreadyFinishedException;
+import com.genios.bowling.exception.player.PlayerNotFoundException;
+import com.genios.bowling.exception.roll.RollAlreadyExistsException;
+import com.genios.bowling.metrics.GameMetrics;
+import com.genios.bowling.persistance.projection.ScoreRow;
+import com.genios.bowling.persistance.reactive.PlayerRow;
+import com.genios.bowling.persistance.reactive.ReactiveFrameRepository;
+import com.genios.bowling.persistance.reactive.ReactivePlayerRepository;
+import com.genios.bowling.persistance.reactive.ReactiveRollRepository;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.record.response.PlayerCreated;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.record.response.ScoreDelta;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.scoring.RollRules;
+import com.genios.bowling.scoring.ScoreCard;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.service.LaneAllocator;
+import com.genios.bowling.service.ScoreReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Non-blocking variant of {@link com.genios.bowling.service.GameService} for the reactive profile. The game is read
+ * with one query, the rolls are checked and scored by the same {@link RollRules} and {@link ScoreCard} as in the
+ * servlet stack, and the changed frames and the new rolls are written in one R2DBC transaction.
+ * <p>
+ * Requests of one game are not queued, two requests racing for the same roll are told apart by the unique constraints
+ * of the frame and roll tables, the one that loses gets {@link RollAlreadyExistsException}.
+ */
+@Service
+@Profile(Profiles.REACTIVE)
+public class ReactiveGameService {
+
+    private final ReactivePlayerRepository playerRepository;
+    private final ReactiveFrameRepository frameRepository;
+    private final ReactiveRollRepository rollRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final ScoreReadService scoreReadService;
+    private final LaneAllocator laneAllocator;
+    private final ReactiveScoreStreamService scoreStreamService;
+    private final GameMetrics gameMetrics;
+    private final ZoneId zone;
+    private final SequenceIds frameIds;
+    private final SequenceIds rollIds;
+
+    @Autowired
+    public ReactiveGameService(ReactivePlayerRepository playerRepository, ReactiveFrameRepository frameRepository,
+        ReactiveRollRepository rollRepository, TransactionalOperator transactionalOperator,
+        ScoreReadService scoreReadService, LaneAllocator laneAllocator,
+        ReactiveScoreStreamService scoreStreamService, GameMetrics gameMetrics, BowlingConfiguration configuration) {
+        this.playerRepository = playerRepository;
+        this.frameRepository = frameRepository;
+        this.rollRepository = rollRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.scoreReadService = scoreReadService;
+        this.laneAllocator = laneAllocator;
+        this.scoreStreamService = scoreStreamService;
+        this.gameMetrics = gameMetrics;
+        this.zone = configuration.getLeaderboard().getZone();
+        this.frameIds = new SequenceIds(frameRepository::nextSequenceValue);
+        this.rollIds = new SequenceIds(rollRepository::nextSequenceValue);
+    }
+
+    /**
+     * Creates a player if there are free lines available and puts him on the first free lane. The lanes of the
+     * unfinished games are read with JPA the first time, so the lane is reserved off the event loop.
+     *
+     * @param name String name of the player
+     * @return {@link PlayerCreated}
+     */
+    public Mono<PlayerCreated> createPlayer(String name) {
+        return Mono.fromCallable(laneAllocator::reserve)
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(lane -> playerRepository.save(new PlayerRow(null, name, null, false, lane, Instant.now()))
+                .doOnError(e -> laneAllocator.cancel(lane))
+                .map(player -> {
+                    laneAllocator.assign(lane, player.id());
+                    return new PlayerCreated(player.id(), lane);
+                }));
+    }
+
+    /**
+     * Returns the number of the next frame and a roll.
+     *
+     * @param userId Long id of the player
+     * @return {@link NextFrameRecord}
+     */
+    public Mono<NextFrameRecord> getNextFrame(Long userId) {
+        return getActiveGame(userId).map(game -> {
+            ScoreCard scoreCard = game.getScoreCard();
+            return new NextFrameRecord(userId, scoreCard.getNextFrameNumber(), scoreCard.getNextRollNumber());
+        });
+    }
+
+    /**
+     * Checks if the game is finished and no more frames and rolls are left.
+     *
+     * @param userId Long id of the player
+     * @return true if there are no frames and rolls available
+     */
+    public Mono<Boolean> isGameOver(Long userId) {
+        return getScoreRows(userId).map(rows -> rows.get(0).isFinished()
+            || scoreReadService.toActiveGame(rows).getScoreCard().isGameOver());
+    }
+
+    /**
+     * Converts the game of the player into a record, suitable for the frontend.
+     *
+     * @param userId Long id of the player
+     * @return {@link IntermediateScore}
+     */
+    public Mono<IntermediateScore> getIntermediateScore(Long userId) {
+        return getScoreRows(userId).map(rows -> rows.get(0).isFinished()
+            ? scoreReadService.toIntermediateScore(rows)
+            : scoreReadService.toActiveGame(rows).toIntermediateScore());
+    }
+
+    /**
+     * Returns a page of the finished games, the best score first.
+     *
+     * @param page int number of the page, starting with 0
+     * @param size int max number of scores on the page
+     * @return stream of {@link PlayerScore}
+     */
+    public Flux<PlayerScore> getTopPlayerScores(int page, int size) {
+        return playerRepository.findTopScores(size, (long) page * size);
+    }
+
+    /**
+     * Returns a page of the games finished within the window, the best score first. The window is read from the
+     * database, the reactive stack does not keep the boards in memory.
+     *
+     * @param window {@link ScoreWindow} the games were finished in
+     * @param page int number of the page, starting with 0
+     * @param size int max number of scores on the page
+     * @return stream of {@link PlayerScore}
+     */
+    public Flux<PlayerScore> getTopPlayerScores(ScoreWindow window, int page, int size) {
+        if (window == ScoreWindow.ALL_TIME) {
+            return getTopPlayerScores(page, size);
+        }
+        Instant since = LocalDate.now(zone).minusDays(window.getDays() - 1L).atStartOfDay(zone).toInstant();
+        return playerRepository.findTopScoresSince(since, size, (long) page * size);
+    }
+
+    /**
+     * Saves the rolls in one transaction, either all of them or none. All the rolls are checked against the game
+     * before any of them is written. The rolls are pushed to the subscribers of the game once they are committed.
+     *
+     * @param userId Long id of the player
+     * @param rolls list of {@link Roll} in the order they were made
+     * @return {@link IntermediateScore} after the last of the rolls
+     */
+    public Mono<IntermediateScore> saveRollResults(Long userId, List<Roll> rolls) {
+        return getActiveGame(userId)
+            .flatMap(game -> applyRolls(game, rolls))
+            .as(transactionalOperator::transactional)
+            .onErrorMap(DataIntegrityViolationException.class, e -> new RollAlreadyExistsException(
+                "The rolls of the player with id " + userId + " were already saved by another request"))
+            .map(saved -> {
+                gameMetrics.rollSaved(rolls.size());
+                saved.deltas().forEach(scoreStreamService::publishRoll);
+                if (saved.isFinished()) {
+                    laneAllocator.releaseAfterCommit(userId);
+                    scoreStreamService.publishFinishedGame(
+                        new PlayerScore(saved.game().getName(), saved.game().getScoreCard().getTotalScore()));
+                }
+                return saved.game().toIntermediateScore();
+            });
+    }
+
+    private Mono<SavedRolls> applyRolls(ActiveGame game, List<Roll> rolls) {
+        ScoreCard scoreCard = game.getScoreCard();
+        try {
+            ScoreCard check = scoreCard.copy();
+            for (Roll roll : rolls) {
+                RollRules.check(check, game.getUserId(), roll.frameNumber(), roll.rollNumber(), roll.pins());
+                check.roll(roll.frameNumber(), roll.rollNumber(), roll.pins());
+            }
+        } catch (RuntimeException e) {
+            gameMetrics.rollRejected(e);
+            return Mono.error(e);
+        }
+
+        int finalizedBefore = scoreCard.getFinalizedFrames();
+        List<ScoreDelta> deltas = new ArrayList<>(rolls.size());
+        for (Roll roll : rolls) {
+            int finalizedBeforeRoll = scoreCard.getFinalizedFrames();
+            game.roll(roll.frameNumber(), roll.rollNumber(), roll.pins());
+            deltas.add(game.toScoreDelta(roll.frameNumber(), roll.rollNumber(), finalizedBeforeRoll));
+        }
+        int lastFrameNumber = rolls.stream().mapToInt(Roll::frameNumber).max().orElse(0);
+        boolean isFinished = scoreCard.isComplete() && finalizedBefore < ScoreCard.FRAMES;
+
+        Mono<Integer> finish = isFinished
+            ? playerRepository.finish(game.getUserId(), scoreCard.getTotalScore(), Instant.now())
+            : Mono.empty();
+        return saveFrames(game, finalizedBefore, lastFrameNumber)
+            .thenMany(Flux.fromIterable(rolls).concatMap(roll -> saveRoll(game, roll)))
+            .then(finish)
+            .thenReturn(new SavedRolls(game, deltas, isFinished));
+    }
+
+    /**
+     * Creates the frames that are new and updates the others once, the same way as
+     * {@link com.genios.bowling.service.FrameService} does.
+     */
+    private Mono<Void> saveFrames(ActiveGame game, int finalizedBefore, int lastFrameNumber) {
+        ScoreCard scoreCard = game.getScoreCard();
+        return Flux.range(finalizedBefore + 1, Math.max(lastFrameNumber - finalizedBefore, 0))
+            .filter(scoreCard::hasFrame)
+            .concatMap(frameNumber -> {
+                int frameScore = scoreCard.getFrameScore(frameNumber);
+                boolean isFinalScore = scoreCard.isFinalized(frameNumber);
+                Long frameId = game.getFrameId(frameNumber);
+                if (frameId != null) {
+                    return frameRepository.updateScore(frameId, frameScore, isFinalScore);
+                }
+                return frameIds.next().flatMap(id -> frameRepository
+                    .insert(id, frameNumber, game.getUserId(), isFinalScore, frameScore)
+                    .doOnSuccess(count -> game.setFrameId(frameNumber, id)));
+            })
+            .then();
+    }
+
+    private Mono<Integer> saveRoll(ActiveGame game, Roll roll) {
+        int frameNumber = roll.frameNumber();
+        int rollNumber = roll.rollNumber();
+        return rollIds.next().flatMap(id -> rollRepository
+            .insert(id, game.getFrameId(frameNumber), rollNumber, roll.pins(),
+                game.getStatus(frameNumber, rollNumber).getCode())
+            .doOnSuccess(count -> game.setRollId(frameNumber, rollNumber, id)));
+    }
+
+    private Mono<ActiveGame> getActiveGame(Long userId) {
+        return getScoreRows(userId).flatMap(rows -> {
+            ActiveGame game = rows.get(0).isFinished() ? null : scoreReadService.toActiveGame(rows);
+            if (game == null || game.getScoreCard().isGameOver()) {
+                return Mono.error(new GameAlreadyFinishedException(
+                    "No frames left for the current game for the user with id " + userId));
+            }
+            return Mono.just(game);
+        });
+    }
+
+    private Mono<List<ScoreRow>> getScoreRows(Long userId) {
+        return playerRepository.findScoreRows(userId)
+            .collectList()
+            .filter(rows -> !rows.isEmpty())
+            .switchIfEmpty(Mono.error(new PlayerNotFoundException("No player with the id " + userId + " was found")));
+    }
+
+    private record SavedRolls(ActiveGame game, List<ScoreDelta> deltas, boolean isFinished) {
+
+    }
+}
@@ -0,0 +1,137 @@
+package com.genios.bowling.service.reactive;
+
+import com.genios.bowling.configuration.BowlingConfiguration;
+import com.genios.bowling.configuration.Profiles;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.record.response.ScoreDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes score changes as server-sent events in the reactive stack, with the same events as
+ * {@link com.genios.bowling.service.ScoreStreamService}. A subscriber is a buffer that is only drained when the
+ * connection can take more, no thread is held while the subscriber waits for the next roll.
+ */
+@Service
+@Profile(Profiles.REACTIVE)
+public class ReactiveScoreStreamService {
+
+    static final String SCORE_EVENT = "score";
+    static final String ROLL_EVENT = "roll";
+    static final String SCORES_EVENT = "scores";
+
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONCURRENT_EMIT =
+        Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1));
+
+    private final Duration timeout;
+
+    private final Map<Long, List<Sinks.Many<ScoreDelta>>> gameSubscribers = new ConcurrentHashMap<>();
+    private final List<Sinks.Many<PlayerScore>> scoreBoardSubscribers = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public ReactiveScoreStreamService(BowlingConfiguration configuration) {
+        this.timeout = configuration.getScoreStream().getTimeout();
+    }
+
+    /**
+     * Subscribes to the changes of the game. The subscriber is registered before the current score is read, so no
+     * roll saved in between is lost. Stream of a finished game is completed right after the current score.
+     *
+     * @param userId Long id of the player
+     * @param currentScore current score of the game
+     * @return stream of the events
+     */
+    public Flux<ServerSentEvent<Object>> subscribeToGame(Long userId, Mono<IntermediateScore> currentScore) {
+        return Flux.defer(() -> {
+            Sinks.Many<ScoreDelta> subscriber = Sinks.many().unicast().onBackpressureBuffer();
+            gameSubscribers.compute(userId, (id, subscribers) -> {
+                List<Sinks.Many<ScoreDelta>> result = subscribers == null ? new CopyOnWriteArrayList<>() : subscribers;
+                result.add(subscriber);
+                return result;
+            });
+            Flux<ServerSentEvent<Object>> rolls = subscriber.asFlux().map(delta -> event(ROLL_EVENT, delta));
+            return currentScore
+                .flatMapMany(score -> score.isGameOver()
+                    ? Flux.just(event(SCORE_EVENT, score))
+                    : Flux.just(event(SCORE_EVENT, score)).concatWith(rolls))
+                .take(timeout)
+                .doFinally(signal -> removeGameSubscriber(userId, subscriber));
+        });
+    }
+
+    /**
+     * Subscribes to the games finished from now on.
+     *
+     * @param currentScores current score board
+     * @return stream of the events
+     */
+    public Flux<ServerSentEvent<Object>> subscribeToScoreBoard(Mono<List<PlayerScore>> currentScores) {
+        return Flux.defer(() -> {
+            Sinks.Many<PlayerScore> subscriber = Sinks.many().unicast().onBackpressureBuffer();
+            scoreBoardSubscribers.add(subscriber);
+            return currentScores.map(scores -> event(SCORES_EVENT, scores))
+                .concatWith(subscriber.asFlux().map(score -> event(SCORE_EVENT, score)))
+                .take(timeout)
+                .doFinally(signal -> scoreBoardSubscribers.remove(subscriber));
+        });
+    }
+
+    public int getGameSubscriberCount(Long userId) {
+        List<Sinks.Many<ScoreDelta>> subscribers = gameSubscribers.get(userId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    /**
+     * Sends the saved roll to the subscribers of the game, they are completed with the last roll of the game.
+     *
+     * @param delta {@link ScoreDelta}
+     */
+    void publishRoll(ScoreDelta delta) {
+        List<Sinks.Many<ScoreDelta>> subscribers = gameSubscribers.get(delta.userId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Sinks.Many<ScoreDelta> subscriber : subscribers) {
+            subscriber.emitNext(delta, RETRY_ON_CONCURRENT_EMIT);
+            if (delta.isGameOver()) {
+                subscriber.emitComplete(RETRY_ON_CONCURRENT_EMIT);
+            }
+        }
+        if (delta.isGameOver()) {
+            gameSubscribers.remove(delta.userId());
+        }
+    }
+
+    /**
+     * Sends the finished game to the subscribers of the score board.
+     *
+     * @param score {@link PlayerScore}
+     */
+    void publishFinishedGame(PlayerScore score) {
+        for (Sinks.Many<PlayerScore> subscriber : scoreBoardSubscribers) {
+            subscriber.emitNext(score, RETRY_ON_CONCURRENT_EMIT);
+        }
+    }
+
+    private void removeGameSubscriber(Long userId, Sinks.Many<ScoreDelta> subscriber) {
+        gameSubscribers.computeIfPresent(userId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+}
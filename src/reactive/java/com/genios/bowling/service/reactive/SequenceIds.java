@@ -0,0 +1,38 @@
+package com.genios.bowling.service.reactive;
+
+import reactor.core.publisher.Mono;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Hands out ids from a database sequence the way the pooled optimizer of Hibernate does with the allocation size of
+ * the entities: every value of the sequence reserves the ids up to and including it. The ids taken by the reactive
+ * stack never clash with the ones Hibernate takes from the same sequence, and only one in 50 ids costs a query.
+ */
+public class SequenceIds {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private final Supplier<Mono<Long>> nextSequenceValue;
+    private final Queue<Long> ids = new ConcurrentLinkedQueue<>();
+
+    SequenceIds(Supplier<Mono<Long>> nextSequenceValue) {
+        this.nextSequenceValue = nextSequenceValue;
+    }
+
+    Mono<Long> next() {
+        return Mono.defer(() -> {
+            Long id = ids.poll();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return nextSequenceValue.get().map(value -> {
+                for (long i = Math.max(value - ALLOCATION_SIZE + 1, 1); i < value; i++) {
+                    ids.add(i);
+                }
+                return value;
+            });
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.genios.bowling.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.request.Player;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.PlayerCreated;
+import com.genios.bowling.record.response.ScoreDelta;
+import com.genios.bowling.service.reactive.ReactiveGameService;
+import com.genios.bowling.service.reactive.ReactiveScoreStreamService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {"spring.r2dbc.url=r2dbc:h2:mem:///testdb", "spring.r2dbc.username=sa",
+    "spring.r2dbc.password=password"})
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReactiveBowlingControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private ReactiveGameService gameService;
+    @Autowired
+    private ReactiveScoreStreamService scoreStreamService;
+
+    @Test
+    void shouldFinishGameWhenRollsAreSavedByReactiveStack() {
+        //given
+        Long userId = createPlayer("Mark");
+        List<Roll> rolls = new ArrayList<>();
+        for (int frame = 1; frame < 10; frame++) {
+            rolls.add(new Roll(frame, 1, 10));
+        }
+        rolls.addAll(List.of(new Roll(10, 1, 10), new Roll(10, 2, 10), new Roll(10, 3, 10)));
+
+        //when
+        webTestClient.post().uri("/api/players/{id}/frames:batch", userId).bodyValue(rolls)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.isGameOver").isEqualTo(true)
+            .jsonPath("$.finalScore").isEqualTo(300)
+            .jsonPath("$.frames.length()").isEqualTo(10);
+
+        //then
+        webTestClient.get().uri("/api/players/{id}/game", userId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.isGameOver").isEqualTo(true);
+        webTestClient.get().uri("/api/scores")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].name").isEqualTo("Mark")
+            .jsonPath("$[0].totalScore").isEqualTo(300);
+        com.genios.bowling.persistance.entity.Player player = playerRepository.findById(userId).orElseThrow();
+        assertTrue(player.isFinished());
+        assertEquals(300, player.getTotalScore());
+    }
+
+    @Test
+    void shouldRejectDuplicatedRollWhenRollWasSaved() {
+        //given
+        Long userId = createPlayer("Mark");
+        webTestClient.post().uri("/api/players/{id}/frames", userId).bodyValue(new Roll(1, 1, 3))
+            .exchange()
+            .expectStatus().isOk();
+
+        //when
+        webTestClient.post().uri("/api/players/{id}/frames", userId).bodyValue(new Roll(1, 1, 3))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        //then
+        webTestClient.get().uri("/api/players/{id}/frames", userId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.frameNumber").isEqualTo(1)
+            .jsonPath("$.rollNumber").isEqualTo(2);
+    }
+
+    @Test
+    void shouldStreamSavedRollWhenGameIsSubscribed() throws Exception {
+        //given
+        Long userId = createPlayer("Mark");
+        CompletableFuture<List<ServerSentEvent<Object>>> events = scoreStreamService
+            .subscribeToGame(userId, gameService.getIntermediateScore(userId))
+            .take(2)
+            .collectList()
+            .toFuture();
+
+        //when
+        gameService.saveRollResults(userId, List.of(new Roll(1, 1, 7))).block();
+
+        //then
+        List<ServerSentEvent<Object>> received = events.get(10, TimeUnit.SECONDS);
+        assertEquals("score", received.get(0).event());
+        assertEquals("roll", received.get(1).event());
+        assertEquals(7, ((ScoreDelta) received.get(1).data()).pins());
+        assertEquals(0, scoreStreamService.getGameSubscriberCount(userId));
+    }
+
+    private Long createPlayer(String name) {
+        PlayerCreated created = webTestClient.post().uri("/api/players").bodyValue(new Player(name))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(PlayerCreated.class)
+            .returnResult()
+            .getResponseBody();
+        return created.id();
+    }
+}
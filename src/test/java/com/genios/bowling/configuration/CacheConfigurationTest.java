@@ -0,0 +1,102 @@
+package com.genios.bowling.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.service.GameService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.cache.enabled=true")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class CacheConfigurationTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void shouldSeeNewFrameWhenFramesOfPlayerWereCached() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        assertEquals(0, countFrames(userId));
+        assertTrue(entityManagerFactory.getCache().contains(Player.class, userId));
+
+        //when
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 3);
+
+        //then
+        assertEquals(1, countFrames(userId));
+    }
+
+    @Test
+    void shouldReadFrameFromCacheWhenItsScoreIsUpdated() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 10);
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+            .getDomainDataRegionStatistics(CacheConfiguration.FRAME_REGION);
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+
+        //when
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 1), 3);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 2), 4);
+
+        //then
+        assertEquals(hits + 2, statistics.getHitCount());
+        assertEquals(misses, statistics.getMissCount());
+        assertEquals(17, gameService.getIntermediateScore(userId).frames().get(0).score());
+    }
+
+    @Test
+    void shouldCacheScoreWhenGameIsFinished() {
+        //given
+        playerRepository.save(new Player(1L, "Max", 100, true, List.of()));
+        playerRepository.save(new Player(2L, "Monica", null, false, List.of()));
+
+        //when
+        IntermediateScore finished = gameService.getIntermediateScore(1L);
+        gameService.getIntermediateScore(2L);
+
+        //then
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfiguration.FINISHED_GAMES);
+        assertNotNull(cache);
+        assertEquals(finished, cache.get(1L, IntermediateScore.class));
+        assertNull(cache.get(2L));
+    }
+
+    private int countFrames(long userId) {
+        Integer frames = transactionTemplate.execute(
+            status -> playerRepository.findById(userId).orElseThrow().getFrames().size());
+        return frames == null ? 0 : frames;
+    }
+}
@@ -0,0 +1,20 @@
+package com.genios.bowling.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadConfigurationTest {
+
+    @Test
+    void shouldSizePoolFromDatabaseCoresWhenTheyNeedMoreConnectionsThanShards() {
+        //then
+        assertEquals(9, VirtualThreadConfiguration.getPoolSize(4, 4));
+    }
+
+    @Test
+    void shouldSizePoolFromShardsWhenTheyNeedMoreConnectionsThanDatabaseCores() {
+        //then
+        assertEquals(17, VirtualThreadConfiguration.getPoolSize(2, 16));
+    }
+}
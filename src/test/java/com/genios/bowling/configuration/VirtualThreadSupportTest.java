@@ -0,0 +1,40 @@
+package com.genios.bowling.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import java.util.concurrent.ExecutorService;
+
+class VirtualThreadSupportTest {
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldFailWhenJavaHasNoVirtualThreads() {
+        //then
+        assertFalse(VirtualThreadSupport.isSupported());
+        assertThrows(IllegalStateException.class, () -> VirtualThreadSupport.newThreadFactory("test-"));
+        assertThrows(IllegalStateException.class, VirtualThreadSupport::newPerTaskExecutor);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldRunOnVirtualThreadWhenJavaHasVirtualThreads() throws Exception {
+        //given
+        ExecutorService executor = VirtualThreadSupport.newPerTaskExecutor();
+        Thread named = VirtualThreadSupport.newThreadFactory("test-").newThread(() -> { });
+
+        //when
+        Thread thread = executor.submit(Thread::currentThread).get();
+        executor.shutdown();
+
+        //then
+        assertTrue(VirtualThreadSupport.isSupported());
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        assertEquals("test-0", named.getName());
+    }
+}
@@ -2,27 +2,41 @@ package com.genios.bowling.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.genios.bowling.exception.NoFreeLinesException;
 import com.genios.bowling.exception.player.PlayerNotFoundException;
 import com.genios.bowling.persistance.repository.PlayerRepository;
 import com.genios.bowling.record.request.Player;
+import com.genios.bowling.record.request.PlayerRolls;
+import com.genios.bowling.record.request.Roll;
 import com.genios.bowling.record.response.GameOver;
+import com.genios.bowling.record.response.IntermediateScore;
 import com.genios.bowling.record.response.NextFrameRecord;
 import com.genios.bowling.record.response.PlayerCreated;
+import com.genios.bowling.record.response.PlayerRollsResult;
 import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.scoring.ScoreWindow;
+import com.genios.bowling.service.LaneAllocator;
+import com.genios.bowling.service.PlayerService;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.context.request.ServletWebRequest;
 import java.util.List;
 
 @ExtendWith(SpringExtension.class)
@@ -35,6 +49,10 @@ class BowlingControllerTest {
     private BowlingController controller;
     @Autowired
     private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private LaneAllocator laneAllocator;
 
     @Test
     void shouldCreatePlayerWhenAvailableLines() {
@@ -52,12 +70,20 @@ class BowlingControllerTest {
         assertEquals(1L, id);
     }
 
+    @Test
+    void shouldRejectIdWhenItIsNotPositive() {
+        //then
+        Assertions.assertThrows(ConstraintViolationException.class, () -> controller.isGameOver(0L));
+        Assertions.assertThrows(ConstraintViolationException.class, () -> controller.isGameOver(null));
+    }
+
     @Test
     void shouldThrowAnExceptionPlayerWhenOngoingGames() {
         //given
         com.genios.bowling.persistance.entity.Player player0 =
             new com.genios.bowling.persistance.entity.Player(1L, "Max", 0, false, List.of());
         playerRepository.save(player0);
+        laneAllocator.reconcile();
         Player player = new Player("Mark");
 
         //when
@@ -86,6 +112,30 @@ class BowlingControllerTest {
         assertEquals(1, entity.getBody().rollNumber());
     }
 
+    @Test
+    void shouldSaveRollsOfOtherPlayersWhenRollsOfOnePlayerAreRejected() {
+        //given
+        playerRepository.save(new com.genios.bowling.persistance.entity.Player(1L, "Max", 0, false, List.of()));
+        playerRepository.save(new com.genios.bowling.persistance.entity.Player(2L, "Monica", 0, false, List.of()));
+        List<PlayerRolls> playerRolls = List.of(
+            new PlayerRolls(1L, List.of(new Roll(1, 1, 7), new Roll(1, 2, 5))),
+            new PlayerRolls(2L, List.of(new Roll(1, 1, 7), new Roll(1, 2, 3))));
+
+        //when
+        ResponseEntity<List<PlayerRollsResult>> entity = controller.saveRolls(playerRolls);
+
+        //then
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertNotNull(entity.getBody());
+        PlayerRollsResult rejected = entity.getBody().get(0);
+        assertEquals("Received the number of pins higher than the number of available pins on a frame",
+            rejected.error());
+        PlayerRollsResult saved = entity.getBody().get(1);
+        assertEquals(1, saved.score().frames().size());
+        assertEquals(1, controller.getNextFrame(1L).getBody().frameNumber());
+        assertEquals(2, controller.getNextFrame(2L).getBody().frameNumber());
+    }
+
     @Test
     void shouldThrowAnExceptionPlayerNotFound() {
         //when
@@ -147,7 +197,7 @@ class BowlingControllerTest {
         playerRepository.save(new com.genios.bowling.persistance.entity.Player(2L, "Mary", 168, true, List.of()));
 
         //when
-        ResponseEntity<List<PlayerScore>> entity = controller.getTopScores();
+        ResponseEntity<List<PlayerScore>> entity = controller.getTopScores(0, null, ScoreWindow.ALL_TIME, request(null));
 
         //then
         assertNotNull(entity);
@@ -165,7 +215,7 @@ class BowlingControllerTest {
         playerRepository.save(new com.genios.bowling.persistance.entity.Player(2L, "Mary", 0, false, List.of()));
 
         //when
-        ResponseEntity<List<PlayerScore>> entity = controller.getTopScores();
+        ResponseEntity<List<PlayerScore>> entity = controller.getTopScores(0, null, ScoreWindow.ALL_TIME, request(null));
 
         //then
         assertNotNull(entity);
@@ -174,5 +224,80 @@ class BowlingControllerTest {
         assertEquals(List.of(), entity.getBody());
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenGameDidNotChange() {
+        //given
+        Long id = controller.create(new Player("Mark")).getBody().id();
+        ResponseEntity<IntermediateScore> first = controller.getPlayerScore(id, request(null));
+        String tag = first.getHeaders().getETag();
+        ServletWebRequest unchanged = request(tag);
+
+        //when
+        ResponseEntity<IntermediateScore> second = controller.getPlayerScore(id, unchanged);
+        controller.saveRoll(id, new Roll(1, 1, 4));
+        ResponseEntity<IntermediateScore> afterRoll = controller.getPlayerScore(id, request(tag));
+
+        //then
+        assertNotNull(tag);
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+        assertNull(second);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), unchanged.getResponse().getStatus());
+        assertNotNull(afterRoll);
+        assertEquals(HttpStatus.OK, afterRoll.getStatusCode());
+        assertNotEquals(tag, afterRoll.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenFinishedGameIsPolledWithFinalTag() {
+        //given
+        Long id = controller.create(new Player("Mark")).getBody().id();
+        for (int frameNumber = 1; frameNumber <= 10; frameNumber++) {
+            controller.saveRoll(id, new Roll(frameNumber, 1, 10));
+        }
+        controller.saveRoll(id, new Roll(10, 2, 10));
+        controller.saveRoll(id, new Roll(10, 3, 10));
+        ResponseEntity<IntermediateScore> finished = controller.getPlayerScore(id, request(null));
+        String tag = finished.getHeaders().getETag();
+        ServletWebRequest unchanged = request(tag);
+
+        //when
+        ResponseEntity<IntermediateScore> second = controller.getPlayerScore(id, unchanged);
+
+        //then
+        assertNotNull(tag);
+        assertTrue(tag.endsWith("-final\""));
+        assertNull(second);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), unchanged.getResponse().getStatus());
+    }
+
+    @Test
+    void shouldChangeTagOfTopScoresWhenGameIsFinished() {
+        //given
+        playerRepository.save(new com.genios.bowling.persistance.entity.Player(1L, "Max", 0, false, List.of()));
+        String tag = controller.getTopScores(0, null, ScoreWindow.ALL_TIME, request(null)).getHeaders().getETag();
+        ServletWebRequest unchanged = request(tag);
+
+        //when
+        ResponseEntity<List<PlayerScore>> beforeFinish = controller.getTopScores(0, null, ScoreWindow.ALL_TIME,
+            unchanged);
+        playerService.setFinalScore(1L, 120);
+        ResponseEntity<List<PlayerScore>> afterFinish = controller.getTopScores(0, null, ScoreWindow.ALL_TIME,
+            request(tag));
+
+        //then
+        assertNull(beforeFinish);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), unchanged.getResponse().getStatus());
+        assertNotNull(afterFinish);
+        assertEquals(List.of(new PlayerScore("Max", 120)), afterFinish.getBody());
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
     //there should be more tests for saveRoll and getIntermediateScore
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.genios.bowling.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.controller.BowlingController;
+import com.genios.bowling.exception.roll.InvalidRollException;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.request.Roll;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GameMetricsTest {
+
+    @Autowired
+    private BowlingController controller;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldTimeEveryStageWhenRollIsSaved() {
+        //given
+        playerRepository.save(new Player(1L, "Max", 0, false, List.of()));
+        SqlStatementCounter.resetThreadCount();
+
+        //when
+        controller.saveRoll(1L, new Roll(1, 1, 3));
+
+        //then
+        for (String stage : List.of(GameMetrics.LOAD, GameMetrics.CHECK, GameMetrics.SCORE, GameMetrics.WRITE,
+            GameMetrics.WRITE_FRAMES, GameMetrics.WRITE_ROLL, GameMetrics.PUBLISH)) {
+            assertEquals(1, meterRegistry.get("bowling.game.stage").tag("stage", stage).timer().count(), stage);
+        }
+        assertEquals(1, meterRegistry.get("bowling.commands.wait").timer().count());
+        assertEquals(1, meterRegistry.get("bowling.game.rolls").tag("result", "saved").counter().count());
+        assertTrue(meterRegistry.get("bowling.sql.statements").tag("type", "insert").counter().count() >= 2);
+        assertTrue(SqlStatementCounter.getThreadCount() >= 3);
+    }
+
+    @Test
+    void shouldCountRejectedRollWhenPinsAreNotAvailable() {
+        //given
+        playerRepository.save(new Player(1L, "Max", 0, false, List.of()));
+        controller.saveRoll(1L, new Roll(1, 1, 7));
+
+        //when
+        Assertions.assertThrows(InvalidRollException.class, () -> controller.saveRoll(1L, new Roll(1, 2, 5)));
+
+        //then
+        assertEquals(1, meterRegistry.get("bowling.game.rolls").tag("result", "rejected")
+            .tag("reason", "InvalidRollException").counter().count());
+    }
+}
@@ -0,0 +1,129 @@
+package com.genios.bowling.persistance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.service.GameService;
+import com.genios.bowling.service.PlayerService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL, the other tests run on H2 with the schema created by Hibernate. Skipped
+ * when Docker is not available.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=validate"})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class FlywayMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15.4");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private GameService gameService;
+
+    @DynamicPropertySource
+    static void setDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Test
+    void shouldPlayGameWhenSchemaIsMigrated() {
+        //given
+        Long userId = playerService.createPlayer("Max");
+
+        //when
+        for (int frameNumber = 1; frameNumber <= 9; frameNumber++) {
+            gameService.saveRollResult(new NextFrameRecord(userId, frameNumber, 1), 10);
+        }
+        for (int rollNumber = 1; rollNumber <= 3; rollNumber++) {
+            gameService.saveRollResult(new NextFrameRecord(userId, 10, rollNumber), 10);
+        }
+
+        //then
+        assertEquals(300, gameService.getFinalResult(userId));
+        assertEquals(10, jdbcTemplate.queryForObject("select count(*) from roll r join frame f on f.id = r.frame_id "
+            + "where f.user_id = ? and r.status = 1", Integer.class, userId));
+    }
+
+    @Test
+    void shouldConvertRollStatusesWhenRollsWereSavedBeforeTheMigration() {
+        //given
+        jdbcTemplate.execute("create database legacy");
+        DataSource legacy = new DriverManagerDataSource("jdbc:postgresql://" + POSTGRES.getHost() + ":"
+            + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/legacy", POSTGRES.getUsername(),
+            POSTGRES.getPassword());
+        Flyway.configure().dataSource(legacy).target("3").load().migrate();
+        JdbcTemplate legacyTemplate = new JdbcTemplate(legacy);
+        legacyTemplate.update("insert into player (id, name, is_finished) values (1, 'Max', false)");
+        legacyTemplate.update("insert into frame (id, user_id, frame_number) values (1, 1, 1), (2, 1, 2), (3, 1, 3)");
+        legacyTemplate.update("insert into roll (id, frame_id, roll_number, pins, status) values "
+            + "(1, 1, 1, 10, 'X'), (2, 2, 1, 4, null), (3, 2, 2, 6, '/'), (4, 3, 1, 0, '-'), (5, 3, 2, 0, '-')");
+
+        //when
+        Flyway.configure().dataSource(legacy).load().migrate();
+
+        //then
+        assertEquals(List.of(1, 0, 2, 3, 3),
+            legacyTemplate.queryForList("select status from roll order by id", Integer.class));
+    }
+
+    @Test
+    void shouldReadFromPartialIndexesWhenQueriesMatchTheirConditions() {
+        //when
+        String lanes = explain("select p.id, p.lane from player p where p.is_finished = false order by p.id");
+        String topScores = explain("select p.id, p.name, p.total_score from player p "
+            + "where p.is_finished = true and p.total_score is not null order by p.total_score desc, p.id limit 20");
+        String finished = explain("select p.id from player p where p.is_finished = true order by p.id");
+
+        //then
+        assertTrue(lanes.contains("player_active_idx"), lanes);
+        assertTrue(topScores.contains("player_top_scores_idx"), topScores);
+        assertTrue(finished.contains("player_finished_idx"), finished);
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery("explain " + query)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("reset enable_seqscan");
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.genios.bowling.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StatusTest {
+
+    @ParameterizedTest
+    @EnumSource(Status.class)
+    void shouldReturnStatusWhenCodeIsStored(Status status) {
+        //then
+        assertEquals(status, Status.fromCode(status.getCode()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 4, 100})
+    void shouldThrowExceptionWhenCodeIsUnknown(int code) {
+        //when
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> Status.fromCode(code));
+
+        //then
+        assertEquals("Unknown status code " + code, thrown.getMessage());
+    }
+}
@@ -0,0 +1,36 @@
+package com.genios.bowling.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.lines=1")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ActiveGameRegistryTest {
+
+    @Autowired
+    private ActiveGameRegistry activeGameRegistry;
+
+    @Test
+    void shouldKeepEveryGameWhenThereAreMoreGamesThanLines() {
+        //given
+        activeGameRegistry.register(new ActiveGame(1L, "Max", null));
+
+        //when
+        activeGameRegistry.register(new ActiveGame(2L, "Monica", null));
+        activeGameRegistry.register(new ActiveGame(3L, "Tomas", null));
+
+        //then
+        assertTrue(activeGameRegistry.find(1L).isPresent());
+        assertTrue(activeGameRegistry.find(2L).isPresent());
+        assertTrue(activeGameRegistry.find(3L).isPresent());
+    }
+}
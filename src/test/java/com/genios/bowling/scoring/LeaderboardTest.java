@@ -0,0 +1,106 @@
+package com.genios.bowling.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.leaderboard.capacity=3")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LeaderboardTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @Test
+    void shouldKeepBestScoresWhenCapacityIsReached() {
+        //given
+        playerRepository.saveAll(List.of(
+            new Player(1L, "Max", 100, true, List.of()),
+            new Player(2L, "Monica", 130, true, List.of()),
+            new Player(3L, "Tomas", 39, true, List.of()),
+            new Player(4L, "Ralf", 100, true, List.of())));
+
+        //when
+        List<PlayerScore> scores = leaderboard.getAll();
+
+        //then
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100),
+            new PlayerScore("Ralf", 100)), scores);
+    }
+
+    @Test
+    void shouldReadScoresFromDatabaseWhenTheyAreBeyondCapacity() {
+        //given
+        playerRepository.saveAll(List.of(
+            new Player(1L, "Max", 100, true, List.of()),
+            new Player(2L, "Monica", 130, true, List.of()),
+            new Player(3L, "Tomas", 39, true, List.of()),
+            new Player(4L, "Ralf", 100, true, List.of())));
+
+        //when
+        List<PlayerScore> scores = playerService.getTopPlayerScores();
+        List<PlayerScore> firstPage = playerService.getTopPlayerScores(0, 2);
+        List<PlayerScore> secondPage = playerService.getTopPlayerScores(1, 2);
+
+        //then
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100),
+            new PlayerScore("Ralf", 100), new PlayerScore("Tomas", 39)), scores);
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100)), firstPage);
+        assertEquals(List.of(new PlayerScore("Ralf", 100), new PlayerScore("Tomas", 39)), secondPage);
+    }
+
+    @Test
+    void shouldAddScoreWhenGameIsFinished() {
+        //given
+        playerRepository.saveAll(List.of(
+            new Player(1L, "Max", 100, true, List.of()),
+            new Player(2L, "Monica", 130, true, List.of()),
+            new Player(3L, "Tomas", 39, true, List.of()),
+            new Player(4L, "Ralf", null, false, List.of())));
+        leaderboard.getAll();
+
+        //when
+        playerService.setFinalScore(4L, 120);
+        playerService.setFinalScore(4L, 120);
+
+        //then
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Ralf", 120),
+            new PlayerScore("Max", 100)), leaderboard.getAll());
+    }
+
+    @Test
+    void shouldReturnPageWhenScoresAreSplit() {
+        //given
+        playerRepository.saveAll(List.of(
+            new Player(1L, "Max", 100, true, List.of()),
+            new Player(2L, "Monica", 130, true, List.of()),
+            new Player(3L, "Tomas", 100, true, List.of())));
+
+        //when
+        List<PlayerScore> first = leaderboard.getPage(0, 2);
+        List<PlayerScore> second = leaderboard.getPage(1, 2);
+        List<PlayerScore> third = leaderboard.getPage(2, 2);
+
+        //then
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100)), first);
+        assertEquals(List.of(new PlayerScore("Tomas", 100)), second);
+        assertEquals(List.of(), third);
+    }
+}
@@ -0,0 +1,96 @@
+package com.genios.bowling.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.record.Status;
+import org.junit.jupiter.api.Test;
+
+class ScoreCardTest {
+
+    @Test
+    void shouldReturn300WhenPerfectGame() {
+        //given
+        ScoreCard scoreCard = new ScoreCard();
+
+        //when
+        for (int frame = 1; frame < 10; frame++) {
+            scoreCard.roll(frame, 1, 10);
+        }
+        scoreCard.roll(10, 1, 10);
+        scoreCard.roll(10, 2, 10);
+        scoreCard.roll(10, 3, 10);
+
+        //then
+        assertTrue(scoreCard.isComplete());
+        assertTrue(scoreCard.isGameOver());
+        assertEquals(300, scoreCard.getTotalScore());
+        assertEquals(30, scoreCard.getFrameScore(1));
+        assertEquals(270, scoreCard.getFrameScore(9));
+    }
+
+    @Test
+    void shouldWaitForBonusRollsWhenStrike() {
+        //given
+        ScoreCard scoreCard = new ScoreCard();
+
+        //when
+        Status status = scoreCard.roll(1, 1, 10);
+        scoreCard.roll(2, 1, 7);
+
+        //then
+        assertEquals(Status.STRIKE, status);
+        assertFalse(scoreCard.isFinalized(1));
+        assertEquals(10, scoreCard.getFrameScore(1));
+        assertEquals(7, scoreCard.getFrameScore(2));
+
+        //when
+        Status spare = scoreCard.roll(2, 2, 3);
+
+        //then
+        assertEquals(Status.SPARE, spare);
+        assertTrue(scoreCard.isFinalized(1));
+        assertEquals(20, scoreCard.getFrameScore(1));
+        assertFalse(scoreCard.isFinalized(2));
+    }
+
+    @Test
+    void shouldReturnNextRollWhenFramesArePlayed() {
+        //given
+        ScoreCard scoreCard = new ScoreCard();
+
+        //then
+        assertEquals(1, scoreCard.getNextFrameNumber());
+        assertEquals(1, scoreCard.getNextRollNumber());
+
+        //when
+        scoreCard.roll(1, 1, 4);
+
+        //then
+        assertEquals(1, scoreCard.getNextFrameNumber());
+        assertEquals(2, scoreCard.getNextRollNumber());
+
+        //when
+        scoreCard.roll(1, 2, 0);
+        scoreCard.roll(2, 1, 10);
+
+        //then
+        assertEquals(3, scoreCard.getNextFrameNumber());
+        assertEquals(1, scoreCard.getNextRollNumber());
+    }
+
+    @Test
+    void shouldNotCountStrikeWhenPinsAreAvailableInLastFrame() {
+        //given
+        ScoreCard scoreCard = new ScoreCard();
+        scoreCard.restoreRoll(10, 1, 10);
+        scoreCard.restoreRoll(10, 2, 3);
+
+        //then
+        assertEquals(7, scoreCard.getAvailablePins(10, 7));
+        assertEquals(10, scoreCard.getNextFrameNumber());
+        assertEquals(3, scoreCard.getNextRollNumber());
+        assertFalse(scoreCard.isGameOver());
+    }
+}
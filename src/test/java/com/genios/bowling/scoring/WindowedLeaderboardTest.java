@@ -0,0 +1,113 @@
+package com.genios.bowling.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {"bowling.leaderboard.capacity=3", "bowling.leaderboard.zone=UTC"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WindowedLeaderboardTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private WindowedLeaderboard windowedLeaderboard;
+
+    @Test
+    void shouldReturnGamesOfWindowWhenGamesWereFinishedOnDifferentDays() {
+        //given
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        playerRepository.saveAll(List.of(
+            finishedOn(1L, "Max", 100, today),
+            finishedOn(2L, "Monica", 130, today.minusDays(3)),
+            finishedOn(3L, "Tomas", 200, today.minusDays(10)),
+            finishedOn(4L, "Ralf", 250, today.minusDays(40)),
+            new Player(5L, "Anna", 300, true, List.of())));
+
+        //when
+        List<PlayerScore> daily = windowedLeaderboard.getPage(ScoreWindow.TODAY, 0, 10);
+        List<PlayerScore> weekly = windowedLeaderboard.getPage(ScoreWindow.WEEK, 0, 10);
+        List<PlayerScore> monthly = windowedLeaderboard.getPage(ScoreWindow.MONTH, 0, 10);
+
+        //then
+        assertEquals(List.of(new PlayerScore("Max", 100)), daily);
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100)), weekly);
+        assertEquals(List.of(new PlayerScore("Tomas", 200), new PlayerScore("Monica", 130),
+            new PlayerScore("Max", 100)), monthly);
+        assertEquals(List.of(new PlayerScore("Monica", 130)), windowedLeaderboard.getPage(ScoreWindow.MONTH, 1, 1));
+    }
+
+    @Test
+    void shouldExpireGamesWhenDaysRollOver() {
+        //given
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        playerRepository.save(new Player(1L, "Max", null, false, List.of()));
+        windowedLeaderboard.getPage(ScoreWindow.TODAY, 0, 10);
+        playerService.setFinalScore(1L, 120);
+        playerService.setFinalScore(1L, 120);
+
+        //when
+        List<PlayerScore> daily = windowedLeaderboard.getPage(ScoreWindow.TODAY, 0, 10);
+        List<PlayerScore> tomorrow = windowedLeaderboard.getPage(ScoreWindow.TODAY, 0, 10, today.plusDays(1));
+        List<PlayerScore> nextWeek = windowedLeaderboard.getPage(ScoreWindow.WEEK, 0, 10, today.plusDays(6));
+        windowedLeaderboard.add(2L, "Monica", 90, today.plusDays(30).atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        //then
+        assertEquals(List.of(new PlayerScore("Max", 120)), daily);
+        assertEquals(List.of(), tomorrow);
+        assertEquals(List.of(new PlayerScore("Max", 120)), nextWeek);
+        assertEquals(List.of(new PlayerScore("Monica", 90)),
+            windowedLeaderboard.getPage(ScoreWindow.MONTH, 0, 10, today.plusDays(30)));
+        assertEquals(List.of(), windowedLeaderboard.getPage(ScoreWindow.TODAY, 0, 10));
+    }
+
+    @Test
+    void shouldReadPageFromDatabaseWhenItIsBeyondCapacityOfFullDay() {
+        //given
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        playerRepository.saveAll(List.of(
+            finishedOn(1L, "Max", 100, today),
+            finishedOn(2L, "Monica", 130, today),
+            finishedOn(3L, "Tomas", 200, today),
+            finishedOn(4L, "Ralf", 250, today),
+            finishedOn(5L, "Anna", 90, today.minusDays(1))));
+
+        //when
+        List<PlayerScore> first = playerService.getTopPlayerScores(ScoreWindow.TODAY, 0, 3);
+        List<PlayerScore> second = playerService.getTopPlayerScores(ScoreWindow.TODAY, 1, 3);
+        List<PlayerScore> weekly = playerService.getTopPlayerScores(ScoreWindow.WEEK, 1, 2);
+
+        //then
+        assertEquals(List.of(new PlayerScore("Ralf", 250), new PlayerScore("Tomas", 200),
+            new PlayerScore("Monica", 130)), first);
+        assertEquals(List.of(new PlayerScore("Max", 100)), second);
+        assertEquals(List.of(new PlayerScore("Monica", 130), new PlayerScore("Max", 100)), weekly);
+        assertEquals(List.of(new PlayerScore("Anna", 90)), playerService.getTopPlayerScores(ScoreWindow.WEEK, 4, 1));
+    }
+
+    private static Player finishedOn(Long userId, String name, int score, LocalDate day) {
+        Player player = new Player(userId, name, score, true, List.of());
+        Instant finishedAt = day.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        player.setStartedAt(finishedAt.minusSeconds(1800));
+        player.setFinishedAt(finishedAt);
+        return player;
+    }
+}
@@ -0,0 +1,130 @@
+package com.genios.bowling.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.exception.roll.RollAlreadyExistsException;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.commands.shards=2")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GameCommandExecutorTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private GameCommandExecutor commandExecutor;
+
+    @Test
+    void shouldRejectDuplicatedRollWhenRollsAreConcurrent() throws Exception {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        ExecutorService requests = Executors.newFixedThreadPool(8);
+        List<Callable<Void>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            duplicates.add(() -> {
+                commandExecutor.execute(userId, () -> gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 3));
+                return null;
+            });
+        }
+
+        //when
+        int saved = 0;
+        int rejected = 0;
+        for (Future<Void> future : requests.invokeAll(duplicates)) {
+            try {
+                future.get();
+                saved++;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RollAlreadyExistsException) {
+                    rejected++;
+                }
+            }
+        }
+        requests.shutdown();
+
+        //then
+        assertEquals(1, saved);
+        assertEquals(7, rejected);
+        assertEquals(1, rollRepository.count());
+    }
+
+    @Test
+    void shouldReadScoreWhenQueueOfGameIsBusy() throws Exception {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        commandExecutor.execute(userId, () -> gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 3));
+        CountDownLatch release = new CountDownLatch(1);
+        commandExecutor.submit(userId, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //when
+        try {
+            IntermediateScore score = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> gameService.getPublishedScore(userId));
+            NextFrameRecord nextFrame = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> gameService.getPublishedNextFrame(userId));
+
+            //then
+            assertEquals(3, score.frames().get(0).rolls().get(0).pins());
+            assertEquals(1, nextFrame.frameNumber());
+            assertEquals(2, nextFrame.rollNumber());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRunNestedCommandWhenCommandsShareQueue() {
+        //when
+        int result = commandExecutor.execute(1L, () -> commandExecutor.execute(3L, () -> 42));
+
+        //then
+        assertEquals(42, result);
+    }
+
+    @Test
+    void shouldRejectNestedCommandWhenItBelongsToAnotherQueue() {
+        //when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> commandExecutor.execute(1L, () -> commandExecutor.execute(2L, () -> 42)));
+
+        //then
+        assertTrue(exception.getMessage().contains("player 2"));
+    }
+}
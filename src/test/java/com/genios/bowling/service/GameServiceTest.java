@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.genios.bowling.exception.GameAlreadyFinishedException;
 import com.genios.bowling.exception.frame.FrameNotFoundException;
 import com.genios.bowling.exception.roll.InvalidRollException;
 import com.genios.bowling.exception.roll.RollAlreadyExistsException;
@@ -15,7 +16,11 @@ import com.genios.bowling.persistance.entity.Roll;
 import com.genios.bowling.persistance.repository.FrameRepository;
 import com.genios.bowling.persistance.repository.PlayerRepository;
 import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.Status;
+import com.genios.bowling.record.response.FrameScore;
+import com.genios.bowling.record.response.IntermediateScore;
 import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.record.response.RollScore;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
@@ -28,6 +33,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,8 +69,8 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 10, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 7, "/", lastFrame);
-        Roll roll2 = new Roll(2L, 1L, 2, 3, "/", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 7, Status.SPARE, lastFrame);
+        Roll roll2 = new Roll(2L, 1L, 2, 3, Status.SPARE, lastFrame);
         rollRepository.saveAll(List.of(roll1, roll2));
 
         //then
@@ -78,9 +84,9 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 10, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
-        Roll roll2 = new Roll(2L, 1L, 2, 3, "/", lastFrame);
-        Roll roll3 = new Roll(3L, 1L, 3, 7, "/", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
+        Roll roll2 = new Roll(2L, 1L, 2, 3, Status.SPARE, lastFrame);
+        Roll roll3 = new Roll(3L, 1L, 3, 7, Status.SPARE, lastFrame);
         rollRepository.saveAll(List.of(roll1, roll2, roll3));
 
         //then
@@ -94,8 +100,8 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 10, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
-        Roll roll2 = new Roll(2L, 1L, 2, 3, "/", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
+        Roll roll2 = new Roll(2L, 1L, 2, 3, Status.SPARE, lastFrame);
         rollRepository.saveAll(List.of(roll1, roll2));
 
         //then
@@ -109,8 +115,8 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 5, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
-        Roll roll2 = new Roll(2L, 1L, 2, 3, "/", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
+        Roll roll2 = new Roll(2L, 1L, 2, 3, Status.SPARE, lastFrame);
         rollRepository.saveAll(List.of(roll1, roll2));
 
         //when
@@ -129,7 +135,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 5, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
         rollRepository.saveAll(List.of(roll1));
 
         //when
@@ -148,7 +154,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 10, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
         rollRepository.saveAll(List.of(roll1));
 
         //when
@@ -167,8 +173,8 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(1L, 10, 1L, player);
         frameRepository.save(lastFrame);
-        Roll roll1 = new Roll(1L, 1L, 1, 10, "X", lastFrame);
-        Roll roll2 = new Roll(2L, 1L, 2, 10, "X", lastFrame);
+        Roll roll1 = new Roll(1L, 1L, 1, 10, Status.STRIKE, lastFrame);
+        Roll roll2 = new Roll(2L, 1L, 2, 10, Status.STRIKE, lastFrame);
         rollRepository.saveAll(List.of(roll1, roll2));
 
         //when
@@ -205,7 +211,98 @@ class GameServiceTest {
         assertTrue(optionalRoll.isPresent());
         Roll roll = optionalRoll.get();
         assertEquals(pins, roll.getPins());
-        assertNull(roll.getStatus());
+        assertEquals(Status.NONE, roll.getStatus());
+    }
+
+    @Test
+    void shouldPublishRollWhenItIsCommitted() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", 0, false, List.of()));
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 3);
+
+        //when
+        Assertions.assertThrows(InvalidRollException.class,
+            () -> gameService.saveRollResult(new NextFrameRecord(userId, 1, 2), 8));
+        NextFrameRecord nextFrame = gameService.getPublishedNextFrame(userId);
+
+        //then
+        assertEquals(1, nextFrame.frameNumber());
+        assertEquals(2, nextFrame.rollNumber());
+        assertFalse(gameService.isPublishedGameOver(userId));
+        assertEquals(1, gameService.getPublishedScore(userId).frames().size());
+    }
+
+    @Test
+    void shouldSaveAllRollsWhenBatchIsValid() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", 0, false, List.of()));
+        List<com.genios.bowling.record.request.Roll> rolls = List.of(
+            rollRequest(1, 1, 10),
+            rollRequest(2, 1, 7),
+            rollRequest(2, 2, 3),
+            rollRequest(3, 1, 4));
+
+        //when
+        IntermediateScore score = gameService.saveRollResults(userId, rolls);
+
+        //then
+        assertEquals(3, score.frames().size());
+        assertEquals(4, rollRepository.count());
+        Frame first = frameRepository.findOneByUserIdAndFrameNumber(userId, 1).orElseThrow();
+        assertEquals(20, first.getFrameScore());
+        assertTrue(first.isFinalScore());
+        Frame second = frameRepository.findOneByUserIdAndFrameNumber(userId, 2).orElseThrow();
+        assertEquals(34, second.getFrameScore());
+        assertTrue(second.isFinalScore());
+        Frame third = frameRepository.findOneByUserIdAndFrameNumber(userId, 3).orElseThrow();
+        assertEquals(4, third.getFrameScore());
+        assertFalse(third.isFinalScore());
+    }
+
+    @Test
+    void shouldSaveNoRollsWhenBatchHasInvalidRoll() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", 0, false, List.of()));
+        List<com.genios.bowling.record.request.Roll> rolls = List.of(
+            rollRequest(1, 1, 7),
+            rollRequest(1, 2, 2),
+            rollRequest(2, 1, 6),
+            rollRequest(2, 2, 5));
+
+        //when
+        Assertions.assertThrows(InvalidRollException.class, () -> gameService.saveRollResults(userId, rolls));
+
+        //then
+        assertEquals(0, rollRepository.count());
+        assertEquals(0, frameRepository.count());
+        assertEquals(1, gameService.getNextFrame(userId).frameNumber());
+    }
+
+    @Test
+    void shouldFinishGameWhenBatchHasLastRoll() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        List<com.genios.bowling.record.request.Roll> rolls = new ArrayList<>();
+        for (int frameNumber = 1; frameNumber < 10; frameNumber++) {
+            rolls.add(rollRequest(frameNumber, 1, 10));
+        }
+        rolls.add(rollRequest(10, 1, 10));
+        rolls.add(rollRequest(10, 2, 10));
+        rolls.add(rollRequest(10, 3, 10));
+
+        //when
+        IntermediateScore score = gameService.saveRollResults(userId, rolls);
+
+        //then
+        assertTrue(score.isGameOver());
+        assertEquals(300, score.finalScore());
+        assertEquals(300, gameService.getFinalResult(userId));
+        Assertions.assertThrows(GameAlreadyFinishedException.class, () -> gameService.saveRollResults(userId,
+            List.of(rollRequest(1, 1, 1))));
     }
 
     @Test
@@ -235,7 +332,7 @@ class GameServiceTest {
         assertTrue(optionalRoll.isPresent());
         Roll roll = optionalRoll.get();
         assertEquals(pins, roll.getPins());
-        assertNull(roll.getStatus());
+        assertEquals(Status.NONE, roll.getStatus());
     }
 
     @Test
@@ -263,7 +360,7 @@ class GameServiceTest {
         assertTrue(optionalRoll.isPresent());
         Roll roll = optionalRoll.get();
         assertEquals(pins, roll.getPins());
-        assertEquals("X", roll.getStatus());
+        assertEquals(Status.STRIKE, roll.getStatus());
     }
 
     @Test
@@ -278,7 +375,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 7, null, lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 7, Status.NONE, lastFrame);
         rollRepository.save(firstRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, frameNumber, rollNumber);
 
@@ -295,7 +392,7 @@ class GameServiceTest {
         assertTrue(optionalRoll.isPresent());
         Roll roll = optionalRoll.get();
         assertEquals(pins, roll.getPins());
-        assertEquals("/", roll.getStatus());
+        assertEquals(Status.SPARE, roll.getStatus());
     }
 
     @ParameterizedTest
@@ -325,7 +422,7 @@ class GameServiceTest {
         assertTrue(optionalRoll.isPresent());
         Roll roll = optionalRoll.get();
         assertEquals(pins, roll.getPins());
-        assertEquals("-", roll.getStatus());
+        assertEquals(Status.MISS, roll.getStatus());
     }
 
     @ParameterizedTest
@@ -360,7 +457,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 7, null, lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 7, Status.NONE, lastFrame);
         rollRepository.save(firstRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, frameNumber, rollNumber);
 
@@ -384,7 +481,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 7, null, lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 7, Status.NONE, lastFrame);
         rollRepository.save(firstRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, 11, rollNumber);
 
@@ -411,7 +508,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 7, null, lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 7, Status.NONE, lastFrame);
         rollRepository.save(firstRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, frameNumber, rollNumber);
 
@@ -437,7 +534,7 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 7, null, lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 7, Status.NONE, lastFrame);
         rollRepository.save(firstRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, frameNumber, rollNumber);
 
@@ -462,9 +559,9 @@ class GameServiceTest {
         playerRepository.save(player);
         Frame lastFrame = new Frame(frameId, frameNumber, userId, player);
         frameRepository.save(lastFrame);
-        Roll firstRoll = new Roll(1L, frameId, 1, 10, "X", lastFrame);
+        Roll firstRoll = new Roll(1L, frameId, 1, 10, Status.STRIKE, lastFrame);
         rollRepository.save(firstRoll);
-        Roll secondRoll = new Roll(2L, frameId, 2, 7, null, lastFrame);
+        Roll secondRoll = new Roll(2L, frameId, 2, 7, Status.NONE, lastFrame);
         rollRepository.save(secondRoll);
         NextFrameRecord nextFrameRecord = new NextFrameRecord(userId, frameNumber, rollNumber);
 
@@ -474,4 +571,74 @@ class GameServiceTest {
         //then
         assertTrue(rollRepository.findOneByFrameIdAndRollNumber(frameId, rollNumber).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnIntermediateScoreWhenGameIsActive() {
+        //given
+        long userId = 1L;
+        Player player = new Player(userId, "Max", null, false, List.of());
+        playerRepository.save(player);
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 1), 4);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 2), 5);
+
+        //when
+        IntermediateScore score = gameService.getIntermediateScore(userId);
+
+        //then
+        assertEquals("Max", score.name());
+        assertFalse(score.isGameOver());
+        assertEquals(2, score.frames().size());
+        FrameScore first = score.frames().get(0);
+        assertTrue(first.isFinalScore());
+        assertEquals(19, first.score());
+        assertEquals("X", first.rolls().get(0).status());
+        FrameScore second = score.frames().get(1);
+        assertEquals(28, second.score());
+        assertEquals(2, second.rolls().size());
+        assertNotNull(second.rolls().get(1).id());
+        Optional<Frame> optionalFrame = frameRepository.findOneByUserIdAndFrameNumber(userId, 2);
+        assertTrue(optionalFrame.isPresent());
+        assertEquals(second.frameId(), optionalFrame.get().getId());
+        assertEquals(28, optionalFrame.get().getFrameScore());
+    }
+
+    @Test
+    void shouldReturnIntermediateScoreWhenGameIsFinished() {
+        //given
+        long userId = 1L;
+        Player player = new Player(userId, "Max", 17, true, List.of());
+        playerRepository.save(player);
+        Frame second = new Frame(1L, 2, userId, player);
+        second.setFrameScore(10);
+        frameRepository.save(second);
+        Frame first = new Frame(2L, 1, userId, player);
+        first.setFrameScore(17);
+        first.setFinalScore(true);
+        frameRepository.save(first);
+        rollRepository.saveAll(List.of(
+            new Roll(1L, 2L, 2, 3, Status.SPARE, first),
+            new Roll(2L, 2L, 1, 7, Status.NONE, first)));
+
+        //when
+        IntermediateScore score = gameService.getIntermediateScore(userId);
+
+        //then
+        assertTrue(score.isGameOver());
+        assertEquals(17, score.finalScore());
+        assertEquals(2, score.frames().size());
+        FrameScore firstScore = score.frames().get(0);
+        assertEquals(1, firstScore.frameNumber());
+        assertEquals(17, firstScore.score());
+        assertEquals(List.of(1, 2), firstScore.rolls().stream().map(RollScore::rollNumber).toList());
+        assertEquals("/", firstScore.rolls().get(1).status());
+        FrameScore secondScore = score.frames().get(1);
+        assertFalse(secondScore.isFinalScore());
+        assertNull(secondScore.score());
+        assertEquals(List.of(), secondScore.rolls());
+    }
+
+    private static com.genios.bowling.record.request.Roll rollRequest(int frameNumber, int rollNumber, int pins) {
+        return new com.genios.bowling.record.request.Roll(frameNumber, rollNumber, pins);
+    }
+}
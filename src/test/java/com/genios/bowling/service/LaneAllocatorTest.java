@@ -0,0 +1,104 @@
+package com.genios.bowling.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.genios.bowling.exception.NoFreeLinesException;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.lines=3")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class LaneAllocatorTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private LaneAllocator laneAllocator;
+
+    @Test
+    void shouldNotGiveMoreLanesThanLinesWhenRequestsAreConcurrent() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            requests.add(() -> playerService.createPlayer("Max"));
+        }
+
+        //when
+        int created = 0;
+        int rejected = 0;
+        for (Future<Long> future : executor.invokeAll(requests)) {
+            try {
+                future.get();
+                created++;
+            } catch (Exception e) {
+                if (e.getCause() instanceof NoFreeLinesException) {
+                    rejected++;
+                }
+            }
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(3, created);
+        assertEquals(13, rejected);
+        assertEquals(0, laneAllocator.getFreeLanes());
+    }
+
+    @Test
+    void shouldPutUnfinishedGamesOnLanesWhenApplicationIsReady() {
+        //given
+        Player onSecondLane = new Player(1L, "Max", null, false, List.of());
+        onSecondLane.setLane(2);
+        Player withoutLane = new Player(2L, "Monica", null, false, List.of());
+        Player finished = new Player(3L, "Tomas", 100, true, List.of());
+        finished.setLane(3);
+        playerRepository.saveAll(List.of(onSecondLane, withoutLane, finished));
+
+        //when
+        laneAllocator.reconcile();
+        Long userId = playerService.createPlayer("Ralf");
+
+        //then
+        assertEquals(2, laneAllocator.getLane(1L));
+        assertEquals(1, laneAllocator.getLane(2L));
+        assertNull(laneAllocator.getLane(3L));
+        assertEquals(3, laneAllocator.getLane(userId));
+        assertEquals(3, playerRepository.findById(userId).orElseThrow().getLane());
+    }
+
+    @Test
+    void shouldReleaseLaneWhenGameIsFinished() {
+        //given
+        Long first = playerService.createPlayer("Max");
+        Long second = playerService.createPlayer("Monica");
+
+        //when
+        playerService.setFinalScore(first, 100);
+        Long third = playerService.createPlayer("Tomas");
+
+        //then
+        assertEquals(2, laneAllocator.getLane(second));
+        assertEquals(1, laneAllocator.getLane(third));
+        assertNull(laneAllocator.getLane(first));
+        assertEquals(1, laneAllocator.getFreeLanes());
+    }
+}
@@ -30,12 +30,15 @@ class PlayerServiceTest {
     private PlayerRepository playerRepository;
     @Autowired
     private PlayerService playerService;
+    @Autowired
+    private LaneAllocator laneAllocator;
 
     @Test
     void shouldThrowExceptionWhenNoLanesAreAvailable() {
         //given
         Player player1 = new Player("Max");
         playerRepository.save(player1);
+        laneAllocator.reconcile();
 
         //when
         NoFreeLinesException thrown = Assertions.assertThrows(NoFreeLinesException.class,
@@ -0,0 +1,157 @@
+package com.genios.bowling.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.event.GameFinishedEvent;
+import com.genios.bowling.event.RollSavedEvent;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.FrameTotal;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.record.response.ScoreDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ScoreStreamServiceTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private ScoreStreamService scoreStreamService;
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void shouldPublishFinalizedFramesWhenRollIsSaved() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 1), 4);
+
+        //when
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 2), 5);
+
+        //then
+        List<ScoreDelta> deltas = applicationEvents.stream(RollSavedEvent.class).map(RollSavedEvent::delta).toList();
+        assertEquals(3, deltas.size());
+        assertTrue(deltas.get(1).frames().isEmpty());
+        ScoreDelta last = deltas.get(2);
+        assertEquals(2, last.frameNumber());
+        assertEquals(2, last.rollNumber());
+        assertEquals(5, last.pins());
+        assertFalse(last.isGameOver());
+        assertEquals(List.of(new FrameTotal(1, true, 19), new FrameTotal(2, true, 28)), last.frames());
+    }
+
+    @Test
+    void shouldCompleteGameSubscribersWhenGameIsFinished() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        scoreStreamService.subscribeToGame(userId, () -> gameService.getIntermediateScore(userId));
+        scoreStreamService.subscribeToScoreBoard(List::of);
+
+        //when
+        for (int frameNumber = 1; frameNumber < 10; frameNumber++) {
+            gameService.saveRollResult(new NextFrameRecord(userId, frameNumber, 1), 10);
+            assertEquals(1, scoreStreamService.getGameSubscriberCount(userId));
+        }
+        gameService.saveRollResult(new NextFrameRecord(userId, 10, 1), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 10, 2), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 10, 3), 10);
+
+        //then
+        assertEquals(0, scoreStreamService.getGameSubscriberCount(userId));
+        assertEquals(1, scoreStreamService.getScoreBoardSubscriberCount());
+        assertEquals(List.of(new GameFinishedEvent(userId, "Max", 300)),
+            applicationEvents.stream(GameFinishedEvent.class).toList());
+    }
+
+    @Test
+    void shouldNotKeepSubscriberWhenGameIsAlreadyFinished() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", 100, true, List.of()));
+
+        //when
+        scoreStreamService.subscribeToGame(userId, () -> gameService.getIntermediateScore(userId));
+
+        //then
+        assertEquals(0, scoreStreamService.getGameSubscriberCount(userId));
+    }
+
+    @Test
+    void shouldNotDelayRollsWhenSubscriberIsBlocked() throws InterruptedException {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter emitter = new BlockingEmitter(release, 3);
+        scoreStreamService.subscribeToGame(userId, () -> gameService.getIntermediateScore(userId), emitter);
+
+        //when
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 3);
+            gameService.saveRollResult(new NextFrameRecord(userId, 1, 2), 4);
+        });
+        release.countDown();
+
+        //then
+        assertTrue(emitter.awaitSent(10, TimeUnit.SECONDS));
+        assertEquals(1, scoreStreamService.getGameSubscriberCount(userId));
+    }
+
+    /**
+     * Emitter whose sends hang until it is released, like a connection of a browser that stopped reading.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sent;
+
+        private BlockingEmitter(CountDownLatch release, int events) {
+            this.release = release;
+            this.sent = new CountDownLatch(events);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            super.send(builder);
+            sent.countDown();
+        }
+
+        private boolean awaitSent(long timeout, TimeUnit unit) throws InterruptedException {
+            return sent.await(timeout, unit);
+        }
+    }
+}
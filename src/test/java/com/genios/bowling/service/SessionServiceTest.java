@@ -0,0 +1,100 @@
+package com.genios.bowling.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.exception.NoFreeLinesException;
+import com.genios.bowling.exception.session.InvalidRotationException;
+import com.genios.bowling.persistance.repository.LaneSessionRepository;
+import com.genios.bowling.record.request.PlayerRolls;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.SessionCreated;
+import com.genios.bowling.record.response.SessionScore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SessionServiceTest {
+
+    @Autowired
+    private SessionService sessionService;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private LaneAllocator laneAllocator;
+    @Autowired
+    private LaneSessionRepository laneSessionRepository;
+
+    @Test
+    void shouldPutAllBowlersOnOneLaneWhenSessionIsCreated() {
+        //when
+        SessionCreated session = sessionService.createSession("Strikers", List.of("Max", "Monica", "Tomas"));
+
+        //then
+        assertEquals(3, session.bowlerIds().size());
+        for (Long bowlerId : session.bowlerIds()) {
+            assertEquals(1, laneAllocator.getLane(bowlerId));
+        }
+        assertEquals(0, laneAllocator.getFreeLanes());
+        assertThrows(NoFreeLinesException.class, () -> playerService.createPlayer("Ralf"));
+    }
+
+    @Test
+    void shouldSumRunningTotalsWhenRotationIsSaved() {
+        //given
+        SessionCreated session = sessionService.createSession("Strikers", List.of("Max", "Monica"));
+        Long max = session.bowlerIds().get(0);
+        Long monica = session.bowlerIds().get(1);
+
+        //when
+        SessionScore score = sessionService.saveRotation(session.id(), List.of(
+            new PlayerRolls(monica, List.of(new Roll(1, 1, 10))),
+            new PlayerRolls(max, List.of(new Roll(1, 1, 3), new Roll(1, 2, 4)))));
+
+        //then
+        assertEquals(7, score.teamScore());
+        assertEquals(max, score.nextUserId());
+        assertFalse(score.isFinished());
+        assertThrows(InvalidRotationException.class, () -> sessionService.saveRotation(session.id(),
+            List.of(new PlayerRolls(max + 100, List.of(new Roll(2, 1, 1))))));
+    }
+
+    @Test
+    void shouldFinishSessionAndReleaseLaneWhenLastGameOfTeamIsFinished() {
+        //given
+        SessionCreated session = sessionService.createSession("Strikers", List.of("Max", "Monica"));
+        Long max = session.bowlerIds().get(0);
+        Long monica = session.bowlerIds().get(1);
+
+        //when
+        for (int frame = 1; frame <= 10; frame++) {
+            List<Roll> rolls = List.of(new Roll(frame, 1, 1), new Roll(frame, 2, 1));
+            sessionService.saveRotation(session.id(), frame < 10
+                ? List.of(new PlayerRolls(max, rolls), new PlayerRolls(monica, rolls))
+                : List.of(new PlayerRolls(max, rolls)));
+        }
+        boolean isFinishedBeforeLastGame = laneSessionRepository.findById(session.id()).orElseThrow().isFinished();
+        int freeLanesBeforeLastGame = laneAllocator.getFreeLanes();
+        SessionScore score = sessionService.saveRotation(session.id(),
+            List.of(new PlayerRolls(monica, List.of(new Roll(10, 1, 1), new Roll(10, 2, 1)))));
+
+        //then
+        assertFalse(isFinishedBeforeLastGame);
+        assertEquals(0, freeLanesBeforeLastGame);
+        assertTrue(score.isFinished());
+        assertEquals(40, score.teamScore());
+        assertEquals(40, laneSessionRepository.findById(session.id()).orElseThrow().getTotalScore());
+        assertEquals(1, laneAllocator.getFreeLanes());
+    }
+}
@@ -0,0 +1,99 @@
+package com.genios.bowling.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollEventRepository;
+import com.genios.bowling.persistance.repository.StoredGameSnapshotRepository;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.service.GameService;
+import com.genios.bowling.service.exporter.ExportFormat;
+import com.genios.bowling.service.exporter.GameExporter;
+import com.genios.bowling.service.importer.GameImporter;
+import com.genios.bowling.service.importer.ImportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {"bowling.storage=events", "bowling.events.snapshot-interval=5"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EventLogGameWriterTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private FrameRepository frameRepository;
+    @Autowired
+    private RollEventRepository rollEventRepository;
+    @Autowired
+    private StoredGameSnapshotRepository storedGameSnapshotRepository;
+    @Autowired
+    private ActiveGameRegistry activeGameRegistry;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private GameImporter gameImporter;
+    @Autowired
+    private GameExporter gameExporter;
+
+    @Test
+    void shouldRebuildGameFromSnapshotAndLaterEventsWhenGameIsLoaded() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        int[][] rolls = {{1, 1, 10}, {2, 1, 7}, {2, 2, 3}, {3, 1, 4}, {3, 2, 5}, {4, 1, 10}, {5, 1, 2}};
+        for (int[] roll : rolls) {
+            gameService.saveRollResult(new NextFrameRecord(userId, roll[0], roll[1]), roll[2]);
+        }
+        IntermediateScore fromMemory = gameService.getIntermediateScore(userId);
+
+        //when
+        activeGameRegistry.remove(userId);
+        IntermediateScore fromEvents = gameService.getIntermediateScore(userId);
+
+        //then
+        assertEquals(7, rollEventRepository.count());
+        assertEquals(1, storedGameSnapshotRepository.count());
+        assertEquals(5, storedGameSnapshotRepository.findFirstByUserIdOrderBySequenceNumberDesc(userId)
+            .orElseThrow().getSequenceNumber());
+        assertEquals(0, frameRepository.count());
+        assertEquals(fromMemory, fromEvents);
+        assertEquals(43, fromEvents.frames().get(2).score());
+    }
+
+    @Test
+    void shouldExportImportedGamesWhenStorageIsEvents() {
+        //given
+        gameImporter.importGames(new ByteArrayInputStream("""
+            Max,10,10,10,10,10,10,10,10,10,10,10,10
+            Monica,5,5,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+            """.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        long exported = gameExporter.exportGames(output, ExportFormat.CSV);
+
+        //then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, exported);
+        assertEquals(12 + 20, rollEventRepository.count());
+        assertEquals(2, storedGameSnapshotRepository.count());
+        assertEquals(1 + 12 + 20, lines.size());
+        assertEquals("1,Max,300,1,30,1,10,X", lines.get(1));
+        assertEquals("2,Monica,100,1,19,2,5,/", lines.get(14));
+    }
+}
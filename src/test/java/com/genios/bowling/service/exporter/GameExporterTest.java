@@ -0,0 +1,87 @@
+package com.genios.bowling.service.exporter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.response.ImportResult;
+import com.genios.bowling.service.importer.GameImporter;
+import com.genios.bowling.service.importer.ImportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GameExporterTest {
+
+    @Autowired
+    private GameExporter gameExporter;
+    @Autowired
+    private GameImporter gameImporter;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void shouldExportRollsOfFinishedGamesWhenFormatIsCsv() {
+        //given
+        importGames("""
+            Max,10,10,10,10,10,10,10,10,10,10,10,10
+            Monica,5,5,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+            """);
+        playerRepository.save(new Player(3L, "Tomas", null, false, List.of()));
+
+        //when
+        List<String> lines = exportGames(ExportFormat.CSV);
+
+        //then
+        assertEquals(1 + 12 + 20, lines.size());
+        assertEquals("user_id,name,total_score,frame_number,frame_score,roll_number,pins,status", lines.get(0));
+        assertEquals("1,Max,300,1,30,1,10,X", lines.get(1));
+        assertTrue(lines.get(12).startsWith("1,Max,300,10,300,3,10,"));
+        assertEquals("2,Monica,100,1,19,2,5,/", lines.get(14));
+        assertEquals("2,Monica,100,2,28,2,0,-", lines.get(16));
+    }
+
+    @Test
+    void shouldImportExportedGamesWhenFormatIsNdjson() {
+        //given
+        importGames("""
+            Max,10,10,10,10,10,10,10,10,10,10,10,10
+            Monica,5,5,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+            """);
+
+        //when
+        List<String> lines = exportGames(ExportFormat.NDJSON);
+        ImportResult result = gameImporter.importGames(
+            new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), ImportFormat.NDJSON);
+
+        //then
+        assertEquals(2, lines.size());
+        assertEquals(2, result.imported());
+        assertEquals(4, playerRepository.count());
+        assertEquals(List.of(300, 100, 300, 100),
+            playerRepository.findAll().stream().map(Player::getTotalScore).toList());
+    }
+
+    private void importGames(String file) {
+        gameImporter.importGames(new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+    }
+
+    private List<String> exportGames(ExportFormat format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        gameExporter.exportGames(output, format);
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.genios.bowling.service.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.response.ImportResult;
+import com.genios.bowling.record.response.PlayerScore;
+import com.genios.bowling.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {"bowling.importer.batch-size=2", "bowling.importer.threads=2"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GameImporterTest {
+
+    @Autowired
+    private GameImporter gameImporter;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private FrameRepository frameRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void shouldImportFinishedGamesWhenFileIsCsv() {
+        //given
+        String file = """
+            name,pins
+            Max,10,10,10,10,10,10,10,10,10,10,10,10
+            Monica,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+
+            Tomas,9,0,9,0
+            Ralf,7,5,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+            Anna,5,5,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0,9,0
+            """;
+
+        //when
+        ImportResult result = importGames(file, ImportFormat.CSV);
+
+        //then
+        assertEquals(3, result.imported());
+        assertEquals(2, result.rejected());
+        assertTrue(result.errors().contains("Line 5: The game is not finished"));
+        assertTrue(result.errors().contains(
+            "Line 6: Received 5 pins, higher than the number of available pins on the frame 1"));
+        assertEquals(3, playerRepository.count());
+        assertEquals(30, frameRepository.count());
+        assertEquals(12 + 20 + 20, rollRepository.count());
+        List<PlayerScore> scores = playerService.getTopPlayerScores();
+        assertEquals(List.of(300, 100, 90), scores.stream().map(PlayerScore::totalScore).toList());
+    }
+
+    @Test
+    void shouldImportFinishedGamesWhenFileIsNdjson() {
+        //given
+        String file = """
+            {"name":"Max","pins":[10,10,10,10,10,10,10,10,10,10,10,10]}
+            {"name":"Monica","pins":[10,10,10,10,10,10,10,10,10,10,10,10,10]}
+            {"name":"Tomas"
+            """;
+
+        //when
+        ImportResult result = importGames(file, ImportFormat.NDJSON);
+
+        //then
+        assertEquals(1, result.imported());
+        assertEquals(2, result.rejected());
+        assertTrue(result.errors().contains("Line 2: The game has more rolls than a game can have"));
+        assertEquals(1, playerRepository.count());
+        assertEquals(300, playerRepository.findAll().get(0).getTotalScore());
+    }
+
+    private ImportResult importGames(String file, ImportFormat format) {
+        return gameImporter.importGames(new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,97 @@
+package com.genios.bowling.service.packed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.PackedGameRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.scoring.ActiveGameRegistry;
+import com.genios.bowling.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "bowling.storage=packed")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PackedGameWriterTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private FrameRepository frameRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private PackedGameRepository packedGameRepository;
+    @Autowired
+    private ActiveGameRegistry activeGameRegistry;
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void shouldKeepGameInOneRowWhenRollsAreSaved() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+
+        //when
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 1), 7);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 2), 3);
+        gameService.saveRollResult(new NextFrameRecord(userId, 3, 1), 4);
+        IntermediateScore fromMemory = gameService.getIntermediateScore(userId);
+        activeGameRegistry.remove(userId);
+        IntermediateScore fromDatabase = gameService.getIntermediateScore(userId);
+
+        //then
+        assertEquals(1, packedGameRepository.count());
+        assertEquals(0, frameRepository.count());
+        assertEquals(0, rollRepository.count());
+        assertEquals(fromMemory, fromDatabase);
+        assertEquals(3, fromDatabase.frames().size());
+        assertEquals(20, fromDatabase.frames().get(0).score());
+        assertEquals(34, fromDatabase.frames().get(1).score());
+        assertFalse(fromDatabase.frames().get(2).isFinalScore());
+        assertEquals("X", fromDatabase.frames().get(0).rolls().get(0).status());
+        assertEquals("/", fromDatabase.frames().get(1).rolls().get(1).status());
+    }
+
+    @Test
+    void shouldFinishGameWhenLastRollIsSaved() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        List<Roll> rolls = new ArrayList<>();
+        for (int frameNumber = 1; frameNumber <= 10; frameNumber++) {
+            rolls.add(new Roll(frameNumber, 1, 10));
+        }
+        rolls.add(new Roll(10, 2, 10));
+        rolls.add(new Roll(10, 3, 10));
+
+        //when
+        gameService.saveRollResults(userId, rolls);
+        IntermediateScore score = gameService.getIntermediateScore(userId);
+
+        //then
+        assertTrue(score.isGameOver());
+        assertEquals(300, score.finalScore());
+        assertEquals(300, playerRepository.findById(userId).orElseThrow().getTotalScore());
+        assertEquals(10, score.frames().size());
+        assertEquals(3, score.frames().get(9).rolls().size());
+    }
+}
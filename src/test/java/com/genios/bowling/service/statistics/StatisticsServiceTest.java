@@ -0,0 +1,114 @@
+package com.genios.bowling.service.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.record.request.Roll;
+import com.genios.bowling.record.response.BowlerGame;
+import com.genios.bowling.record.response.BowlerRecord;
+import com.genios.bowling.record.response.BowlerStatisticsRecord;
+import com.genios.bowling.service.GameService;
+import com.genios.bowling.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StatisticsServiceTest {
+
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private BowlerService bowlerService;
+    @Autowired
+    private StatisticsService statisticsService;
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void shouldAddGameToStatisticsWhenGameIsFinished() {
+        //given
+        Long userId = playerService.createPlayer("Max");
+        List<Roll> rolls = new ArrayList<>(List.of(new Roll(1, 1, 10), new Roll(2, 1, 5), new Roll(2, 2, 5)));
+        for (int frame = 3; frame <= 10; frame++) {
+            rolls.addAll(List.of(new Roll(frame, 1, 3), new Roll(frame, 2, 4)));
+        }
+
+        //when
+        gameService.saveRollResults(userId, rolls);
+
+        //then
+        Long bowlerId = playerRepository.findById(userId).orElseThrow().getBowlerId();
+        BowlerStatisticsRecord statistics = statisticsService.getStatistics(bowlerId);
+        assertEquals("Max", statistics.name());
+        assertEquals(1, statistics.games());
+        assertEquals(89.0, statistics.average());
+        assertEquals(89, statistics.highGame());
+        assertEquals(10.0, statistics.strikePercentage());
+        assertEquals(10.0, statistics.sparePercentage());
+        assertEquals(80.0, statistics.openPercentage());
+        assertEquals(List.of(0, 0, 0, 8, 8, 2, 0, 0, 0, 0, 1), statistics.pinCounts());
+    }
+
+    @Test
+    void shouldKeepHistoryOfBowlerWhenGamesHaveSameName() {
+        //given
+        Long firstGame = playerService.createPlayer("Max");
+        gameService.saveRollResults(firstGame, rollsOf(4));
+        Long secondGame = playerService.createPlayer("Max");
+
+        //when
+        gameService.saveRollResults(secondGame, rollsOf(1));
+
+        //then
+        Long bowlerId = bowlerService.getBowler("Max").id();
+        assertEquals(bowlerId, playerRepository.findById(firstGame).orElseThrow().getBowlerId());
+        assertEquals(List.of(new BowlerGame(secondGame, 20), new BowlerGame(firstGame, 80)),
+            bowlerService.getGames(bowlerId, 0, 10));
+        BowlerStatisticsRecord statistics = statisticsService.getStatistics(bowlerId);
+        assertEquals(2, statistics.games());
+        assertEquals(50.0, statistics.average());
+        assertEquals(80, statistics.highGame());
+        assertEquals(100.0, statistics.openPercentage());
+    }
+
+    @Test
+    void shouldKeepBowlersApartWhenTheyShareNameButNotHandle() {
+        //given
+        Long firstGame = playerService.createPlayer("Max", "max-senior");
+        gameService.saveRollResults(firstGame, rollsOf(4));
+        Long secondGame = playerService.createPlayer("Max", "max-junior");
+
+        //when
+        gameService.saveRollResults(secondGame, rollsOf(1));
+
+        //then
+        BowlerRecord senior = bowlerService.getBowler("max-senior");
+        BowlerRecord junior = bowlerService.getBowler("max-junior");
+        assertNotEquals(senior.id(), junior.id());
+        assertEquals("Max", junior.name());
+        assertEquals(List.of(new BowlerGame(firstGame, 80)), bowlerService.getGames(senior.id(), 0, 10));
+        assertEquals(List.of(new BowlerGame(secondGame, 20)), bowlerService.getGames(junior.id(), 0, 10));
+        assertEquals(1, statisticsService.getStatistics(junior.id()).games());
+    }
+
+    private static List<Roll> rollsOf(int pins) {
+        List<Roll> rolls = new ArrayList<>();
+        for (int frame = 1; frame <= 10; frame++) {
+            rolls.addAll(List.of(new Roll(frame, 1, pins), new Roll(frame, 2, pins)));
+        }
+        return rolls;
+    }
+}
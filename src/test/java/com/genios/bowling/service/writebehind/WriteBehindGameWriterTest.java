@@ -0,0 +1,193 @@
+package com.genios.bowling.service.writebehind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.genios.bowling.persistance.entity.Frame;
+import com.genios.bowling.persistance.entity.Player;
+import com.genios.bowling.persistance.repository.FrameRepository;
+import com.genios.bowling.persistance.repository.PlayerRepository;
+import com.genios.bowling.persistance.repository.RollRepository;
+import com.genios.bowling.record.response.IntermediateScore;
+import com.genios.bowling.record.response.NextFrameRecord;
+import com.genios.bowling.scoring.ActiveGame;
+import com.genios.bowling.service.GameCommandExecutor;
+import com.genios.bowling.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+    "bowling.write-behind.enabled=true",
+    "bowling.write-behind.flush-interval=1h",
+    "bowling.write-behind.journal-directory=target/write-behind-journal"})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WriteBehindGameWriterTest {
+
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private FrameRepository frameRepository;
+    @Autowired
+    private RollRepository rollRepository;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private WriteBehindGameWriter gameWriter;
+    @Autowired
+    private GameCommandExecutor commandExecutor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldSaveRollsWhenFlushed() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+
+        //when
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 10);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 1), 3);
+        gameService.saveRollResult(new NextFrameRecord(userId, 2, 2), 4);
+
+        //then
+        assertTrue(frameRepository.findOneByUserIdAndFrameNumber(userId, 1).isEmpty());
+        assertNull(gameService.getIntermediateScore(userId).frames().get(0).frameId());
+
+        //when
+        gameWriter.flush();
+
+        //then
+        Optional<Frame> optional1 = frameRepository.findOneByUserIdAndFrameNumber(userId, 1);
+        assertTrue(optional1.isPresent());
+        assertEquals(17, optional1.get().getFrameScore());
+        assertTrue(optional1.get().isFinalScore());
+        Optional<Frame> optional2 = frameRepository.findOneByUserIdAndFrameNumber(userId, 2);
+        assertTrue(optional2.isPresent());
+        assertEquals(24, optional2.get().getFrameScore());
+        assertEquals(3, rollRepository.count());
+        IntermediateScore score = commandExecutor.execute(userId, () -> gameService.getIntermediateScore(userId));
+        assertEquals(optional1.get().getId(), score.frames().get(0).frameId());
+        assertNotNull(score.frames().get(1).rolls().get(1).id());
+    }
+
+    @Test
+    void shouldNotSaveRollWhenRequestIsRolledBack() {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //when
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 7);
+            throw new IllegalStateException("Failed after the roll");
+        }));
+        gameWriter.flush();
+
+        //then
+        assertEquals(0, rollRepository.count());
+        assertTrue(frameRepository.findOneByUserIdAndFrameNumber(userId, 1).isEmpty());
+        assertEquals(1, gameService.getNextFrame(userId).rollNumber());
+    }
+
+    @Test
+    void shouldMoveEntriesToDeadLetterWhenBatchFailsEveryAttempt() throws IOException {
+        //given
+        long userId = 1L;
+        long unknownUserId = 99L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        gameService.saveRollResult(new NextFrameRecord(userId, 1, 1), 7);
+        gameWriter.finishGame(new ActiveGame(unknownUserId, "Ghost", null));
+
+        //when
+        gameWriter.flush();
+        gameWriter.flush();
+
+        //then
+        assertEquals(0, rollRepository.count());
+
+        //when
+        gameWriter.flush();
+
+        //then
+        assertEquals(1, rollRepository.count());
+        String finish = JournalEntry.finish(unknownUserId, 0).toLine();
+        try (Stream<Path> files = Files.list(Path.of("target/write-behind-journal"))) {
+            assertTrue(files.filter(f -> f.getFileName().toString().startsWith("dead-letter-"))
+                .anyMatch(f -> readLines(f).contains(finish)));
+        }
+        assertEquals(2, gameService.getNextFrame(userId).rollNumber());
+    }
+
+    @Test
+    void shouldReplayJournalOnlyOnceWhenSegmentIsLeft() throws IOException {
+        //given
+        long userId = 1L;
+        playerRepository.save(new Player(userId, "Max", null, false, List.of()));
+        Path segment = Path.of("target/write-behind-journal/journal-0.log");
+        String lines = JournalEntry.roll(userId, 1, 1, 7, null).toLine() + "\n"
+            + JournalEntry.frame(userId, 1, 7, false).toLine() + "\n";
+
+        //when
+        Files.writeString(segment, lines);
+        gameWriter.replay();
+        Files.writeString(segment, lines);
+        gameWriter.replay();
+
+        //then
+        assertTrue(Files.notExists(segment));
+        assertEquals(1, rollRepository.count());
+        Optional<Frame> optionalFrame = frameRepository.findOneByUserIdAndFrameNumber(userId, 1);
+        assertTrue(optionalFrame.isPresent());
+        assertEquals(7, optionalFrame.get().getFrameScore());
+        assertEquals(2, gameService.getNextFrame(userId).rollNumber());
+    }
+
+    @Test
+    void shouldKeepFinishTimeWhenFinishIsReplayed() throws IOException {
+        //given
+        long userId = 1L;
+        Instant finishedAt = Instant.parse("2026-01-01T10:00:00Z");
+        Player player = new Player(userId, "Max", 300, true, List.of());
+        player.setFinishedAt(finishedAt);
+        playerRepository.save(player);
+        Path segment = Path.of("target/write-behind-journal/journal-0.log");
+
+        //when
+        Files.writeString(segment, JournalEntry.finish(userId, 300).toLine() + "\n");
+        gameWriter.replay();
+
+        //then
+        Player replayed = playerRepository.findById(userId).orElseThrow();
+        assertEquals(300, replayed.getTotalScore());
+        assertEquals(finishedAt, replayed.getFinishedAt());
+    }
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}